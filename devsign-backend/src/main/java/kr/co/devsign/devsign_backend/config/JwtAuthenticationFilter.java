@@ -1,5 +1,6 @@
 package kr.co.devsign.devsign_backend.config;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,29 +27,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        // Authorization 헤더에서 JWT 토큰 추출
-        String authHeader = request.getHeader("Authorization");
-
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7); // "Bearer " 제거
-
-            // 토큰 유효성 검증
-            if (jwtUtil.validateToken(token)) {
-                String loginId = jwtUtil.getLoginIdFromToken(token);
-                String role = jwtUtil.getRoleFromToken(token);
-
-                // Spring Security 인증 객체 생성 (ROLE_ 접두사 추가)
-                SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role);
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                loginId,
-                                null,
-                                Collections.singletonList(authority)
-                        );
-
-                // SecurityContext에 인증 정보 저장
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
+        // Authorization 헤더의 토큰을 한 번만 검증하고, Claims는 요청 속성에 저장해 컨트롤러에서 재사용
+        Claims claims = jwtUtil.resolveClaims(request);
+
+        if (claims != null) {
+            String loginId = claims.getSubject();
+            String role = claims.get("role", String.class);
+
+            // Spring Security 인증 객체 생성 (ROLE_ 접두사 추가)
+            SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role);
+            UsernamePasswordAuthenticationToken authentication =
+                    new UsernamePasswordAuthenticationToken(
+                            loginId,
+                            null,
+                            Collections.singletonList(authority)
+                    );
+
+            // SecurityContext에 인증 정보 저장
+            SecurityContextHolder.getContext().setAuthentication(authentication);
         }
 
         // 다음 필터로 요청 전달
@@ -10,7 +10,6 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -26,6 +25,10 @@ public class SecurityConfig {
     @Value("${app.cors.allowed-origins}")
     private String allowedOrigins;
 
+    // BCrypt cost (올리면 기존 해시는 로그인 성공 시 새 cost로 다시 저장됨)
+    @Value("${app.security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -71,13 +74,17 @@ public class SecurityConfig {
                                 "/api/members/verify-id-pw",
                                 "/api/members/reset-password-final",
                                 "/api/members/check/**",
-                                "/h2-console/**"
+                                "/api/discord/events",
+                                "/h2-console/**",
+                                // 비로그인 요청의 오류 응답(429 등)이 403으로 바뀌지 않도록
+                                "/error"
                         ).permitAll()
                         // GET 요청은 비로그인도 허용 (공개 콘텐츠 조회)
                         .requestMatchers(HttpMethod.GET,
                                 "/api/posts/**",
                                 "/api/notices/**",
-                                "/api/events/**"
+                                "/api/events/**",
+                                "/api/media/**"
                         ).permitAll()
                         // 관리자만 접근 가능한 경로
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
@@ -94,13 +101,8 @@ public class SecurityConfig {
         return http.build();
     }
 
-    @Bean
-    public RestTemplate RestTemplate() {
-        return new RestTemplate();
-    }
-
     @Bean
     public BCryptPasswordEncoder BCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 }
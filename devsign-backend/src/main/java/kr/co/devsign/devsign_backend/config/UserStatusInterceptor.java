@@ -1,25 +1,36 @@
 package kr.co.devsign.devsign_backend.config;
 
-import kr.co.devsign.devsign_backend.entity.Member;
-import kr.co.devsign.devsign_backend.repository.MemberRepository;
+import io.jsonwebtoken.Claims;
+import kr.co.devsign.devsign_backend.service.SuspendedMemberRegistry;
+import kr.co.devsign.devsign_backend.util.JwtUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Optional;
 
 @Component
 public class UserStatusInterceptor implements HandlerInterceptor {
 
+    // ✨ 차단 응답 본문은 항상 같으므로 한 번만 직렬화해 둡니다.
+    private static final byte[] SUSPENDED_BODY = suspendedBody();
+
+    @Autowired
+    private SuspendedMemberRegistry suspendedMemberRegistry;
+
     @Autowired
-    private MemberRepository memberRepository;
+    private JwtUtil jwtUtil;
+
+    // 토큰의 tv 클레임을 회원의 현재 토큰 버전과 비교 (여러 백엔드 노드 간 정지 반영용)
+    @Value("${app.security.token-version-check:false}")
+    private boolean tokenVersionCheck;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
@@ -31,19 +42,13 @@ public class UserStatusInterceptor implements HandlerInterceptor {
                 && !authentication.getPrincipal().equals("anonymousUser")) {
 
             String loginId = (String) authentication.getPrincipal();
-            Optional<Member> memberOpt = memberRepository.findByLoginId(loginId);
 
-            if (memberOpt.isPresent() && memberOpt.get().isSuspended()) {
+            // ✨ DB 조회 없이 메모리 레지스트리에서 정지 여부 확인
+            if (suspendedMemberRegistry.isSuspended(loginId) || isRevokedToken(request, loginId)) {
                 // ✨ 정지된 유저라면 요청을 차단하고 JSON 응답을 보냅니다.
                 response.setStatus(HttpServletResponse.SC_FORBIDDEN); // 403 에러
                 response.setContentType("application/json;charset=UTF-8");
-
-                Map<String, Object> data = new HashMap<>();
-                data.put("status", "suspended");
-                data.put("message", "정지된 계정입니다. 즉시 로그아웃됩니다.");
-
-                ObjectMapper mapper = new ObjectMapper();
-                response.getWriter().write(mapper.writeValueAsString(data));
+                response.getOutputStream().write(SUSPENDED_BODY);
 
                 return false; // 컨트롤러로 요청을 보내지 않음
             }
@@ -51,4 +56,35 @@ public class UserStatusInterceptor implements HandlerInterceptor {
 
         return true; // 정상 유저라면 요청 허용
     }
-}
\ No newline at end of file
+
+    // 정지 이전에 발급된 토큰(tv가 현재 버전보다 낮음)은 거부합니다.
+    // tv가 더 높으면 다른 노드에서 상태가 바뀐 것이므로 해당 회원만 다시 읽어 판단합니다.
+    private boolean isRevokedToken(HttpServletRequest request, String loginId) {
+        if (!tokenVersionCheck) {
+            return false;
+        }
+
+        Claims claims = jwtUtil.resolveClaims(request);
+        Integer tokenVersion = claims != null ? claims.get(JwtUtil.TOKEN_VERSION_CLAIM, Integer.class) : null;
+        if (tokenVersion == null) {
+            return false;
+        }
+
+        if (tokenVersion > suspendedMemberRegistry.tokenVersion(loginId)) {
+            suspendedMemberRegistry.reload(loginId);
+            return suspendedMemberRegistry.isSuspended(loginId);
+        }
+        return tokenVersion < suspendedMemberRegistry.tokenVersion(loginId);
+    }
+
+    private static byte[] suspendedBody() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("status", "suspended");
+        data.put("message", "정지된 계정입니다. 즉시 로그아웃됩니다.");
+        try {
+            return new ObjectMapper().writeValueAsBytes(data);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package kr.co.devsign.devsign_backend.controller;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.co.devsign.devsign_backend.dto.admin.AccessLogFilter;
+import kr.co.devsign.devsign_backend.dto.admin.AccessLogMetricsResponse;
+import kr.co.devsign.devsign_backend.dto.admin.AccessLogPageResponse;
+import kr.co.devsign.devsign_backend.dto.admin.AccessLogRetentionResponse;
+import kr.co.devsign.devsign_backend.dto.admin.AccessLogStatResponse;
 import kr.co.devsign.devsign_backend.dto.admin.AccessLogResponse;
 import kr.co.devsign.devsign_backend.dto.admin.AdminMemberResponse;
 import kr.co.devsign.devsign_backend.dto.admin.AdminPasswordVerifyRequest;
@@ -8,17 +14,25 @@ import kr.co.devsign.devsign_backend.dto.admin.AdminPeriodResponse;
 import kr.co.devsign.devsign_backend.dto.admin.AdminPeriodSaveRequest;
 import kr.co.devsign.devsign_backend.dto.admin.AdminPeriodSubmissionResponse;
 import kr.co.devsign.devsign_backend.dto.admin.AdminPeriodZipRequest;
+import kr.co.devsign.devsign_backend.dto.admin.AssemblyArchiveResponse;
+import kr.co.devsign.devsign_backend.dto.admin.AssemblyProcessingMetricsResponse;
+import kr.co.devsign.devsign_backend.dto.admin.DiscordBotMetricsResponse;
 import kr.co.devsign.devsign_backend.dto.admin.HeroSettingsRequest;
 import kr.co.devsign.devsign_backend.dto.admin.HeroSettingsResponse;
+import kr.co.devsign.devsign_backend.dto.admin.MediaMigrationResponse;
 import kr.co.devsign.devsign_backend.dto.admin.RestoreMemberRequest;
 import kr.co.devsign.devsign_backend.dto.admin.SyncDiscordResponse;
 import kr.co.devsign.devsign_backend.dto.common.StatusResponse;
 import kr.co.devsign.devsign_backend.service.AdminService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.Authentication;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -43,6 +57,72 @@ public class AdminController {
         return adminService.getAllLogs();
     }
 
+    // 접근 로그 검색 (timestamp, id 기준 커서 페이지, cursor는 이전 응답의 nextCursor)
+    @GetMapping("/logs/search")
+    public AccessLogPageResponse searchLogs(
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String studentId,
+            @RequestParam(required = false) String ip,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return adminService.searchLogs(new AccessLogFilter(type, studentId, ip, from, to), cursor, size);
+    }
+
+    // 접근 로그 내보내기 (format=ndjson|csv), 응답 스트림에 바로 기록
+    @GetMapping("/logs/export")
+    public void exportLogs(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String studentId,
+            @RequestParam(required = false) String ip,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            HttpServletResponse response
+    ) throws IOException {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType(csv ? "text/csv" : "application/x-ndjson");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"access-logs." + (csv ? "csv" : "ndjson") + "\"");
+
+        adminService.exportLogs(new AccessLogFilter(type, studentId, ip, from, to), format, response.getWriter());
+    }
+
+    // 접근 로그 통계 (집계 테이블 기준, granularity=HOUR|DAY, dimension=TOTAL|TYPE|MEMBER|IP)
+    @GetMapping("/logs/stats")
+    public List<AccessLogStatResponse> getLogStats(
+            @RequestParam(defaultValue = "DAY") String granularity,
+            @RequestParam(defaultValue = "TYPE") String dimension,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        return adminService.getLogStats(granularity, dimension, from, to);
+    }
+
+    // 집계 + 보존 기간 지난 원본 삭제를 즉시 실행 (평소에는 스케줄러가 수행)
+    @PostMapping("/logs/rollup")
+    public AccessLogRetentionResponse runLogRetention() {
+        return adminService.runLogRetention();
+    }
+
+    @GetMapping("/metrics/access-log")
+    public AccessLogMetricsResponse getAccessLogMetrics() {
+        return adminService.getAccessLogMetrics();
+    }
+
+    @GetMapping("/metrics/assembly-processing")
+    public AssemblyProcessingMetricsResponse getAssemblyProcessingMetrics() {
+        return adminService.getAssemblyProcessingMetrics();
+    }
+
+    @GetMapping("/metrics/discord-bot")
+    public DiscordBotMetricsResponse getDiscordBotMetrics() {
+        return adminService.getDiscordBotMetrics();
+    }
+
     @GetMapping("/settings")
     public HeroSettingsResponse getHeroSettings() {
         return adminService.getHeroSettings();
@@ -73,8 +153,22 @@ public class AdminController {
     }
 
     @PostMapping("/periods/download-zip")
-    public ResponseEntity<byte[]> downloadZip(@RequestBody AdminPeriodZipRequest request) {
-        return adminService.downloadPeriodZip(request);
+    public void downloadZip(
+            @RequestBody AdminPeriodZipRequest request,
+            HttpServletRequest httpRequest,
+            HttpServletResponse response
+    ) throws IOException {
+        adminService.streamPeriodZip(request, httpRequest, response);
+    }
+
+    // 기간 전체 제출물 ZIP을 미리 생성 (평소에는 종료일이 지나면 스케줄러가 수행)
+    @PostMapping("/periods/archive")
+    public AssemblyArchiveResponse prebuildPeriodArchive(
+            @RequestParam int year,
+            @RequestParam int semester,
+            @RequestParam int month
+    ) {
+        return adminService.prebuildPeriodArchive(year, semester, month);
     }
 
     @GetMapping("/sync-discord")
@@ -82,6 +176,11 @@ public class AdminController {
         return adminService.syncDiscord();
     }
 
+    @PostMapping("/media/migrate")
+    public MediaMigrationResponse migrateInlineImages() {
+        return adminService.migrateInlineImages();
+    }
+
     @PutMapping("/members/{id}/suspend")
     public StatusResponse toggleSuspension(@PathVariable Long id, HttpServletRequest request) {
         return adminService.toggleSuspension(id, request.getRemoteAddr());
@@ -1,18 +1,24 @@
 package kr.co.devsign.devsign_backend.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import kr.co.devsign.devsign_backend.service.AssemblyService;
+import kr.co.devsign.devsign_backend.service.AssemblyUploadService;
 import kr.co.devsign.devsign_backend.dto.assembly.MySubmissionsResponse;
 import kr.co.devsign.devsign_backend.dto.assembly.SaveProjectTitleRequest;
 import kr.co.devsign.devsign_backend.dto.assembly.SubmissionPeriodResponse;
 import kr.co.devsign.devsign_backend.dto.assembly.SubmitFilesCommand;
 import kr.co.devsign.devsign_backend.dto.assembly.SubmitFilesResponse;
+import kr.co.devsign.devsign_backend.dto.assembly.UploadInitRequest;
+import kr.co.devsign.devsign_backend.dto.assembly.UploadSessionResponse;
 import kr.co.devsign.devsign_backend.dto.common.StatusResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -21,6 +27,7 @@ import java.util.List;
 public class AssemblyController {
 
     private final AssemblyService assemblyService;
+    private final AssemblyUploadService assemblyUploadService;
 
     @GetMapping("/my-submissions")
     public ResponseEntity<MySubmissionsResponse> getMySubmissions(
@@ -38,7 +45,7 @@ public class AssemblyController {
     }
 
     @GetMapping("/download")
-    public ResponseEntity<byte[]> downloadFile(@RequestParam String path) {
+    public ResponseEntity<Resource> downloadFile(@RequestParam String path) {
         return assemblyService.downloadFile(path);
     }
 
@@ -58,7 +65,10 @@ public class AssemblyController {
             @RequestParam String memo,
             @RequestParam(required = false) MultipartFile presentation,
             @RequestParam(required = false) MultipartFile pdf,
-            @RequestParam(required = false) MultipartFile other
+            @RequestParam(required = false) MultipartFile other,
+            @RequestParam(required = false) String presentationUploadId,
+            @RequestParam(required = false) String pdfUploadId,
+            @RequestParam(required = false) String otherUploadId
     ) {
         try {
             SubmitFilesCommand command = new SubmitFilesCommand(
@@ -70,7 +80,10 @@ public class AssemblyController {
                     memo,
                     presentation,
                     pdf,
-                    other
+                    other,
+                    presentationUploadId,
+                    pdfUploadId,
+                    otherUploadId
             );
             String message = assemblyService.submitFiles(command);
             return ResponseEntity.ok(new SubmitFilesResponse("success", message));
@@ -78,4 +91,36 @@ public class AssemblyController {
             return ResponseEntity.badRequest().body(new SubmitFilesResponse("fail", "submit error: " + e.getMessage()));
         }
     }
+
+    // ✨ 분할 업로드: init → PUT 청크(offset, X-Chunk-Sha256) 반복 → complete → submit에 uploadId 전달
+    @PostMapping("/uploads")
+    public ResponseEntity<UploadSessionResponse> initUpload(@RequestBody UploadInitRequest request) throws IOException {
+        return ResponseEntity.ok(assemblyUploadService.init(request));
+    }
+
+    @GetMapping("/uploads/{uploadId}")
+    public ResponseEntity<UploadSessionResponse> getUploadStatus(@PathVariable String uploadId) {
+        return ResponseEntity.ok(assemblyUploadService.getStatus(uploadId));
+    }
+
+    @PutMapping(value = "/uploads/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<UploadSessionResponse> uploadChunk(
+            @PathVariable String uploadId,
+            @RequestParam long offset,
+            @RequestHeader(value = "X-Chunk-Sha256", required = false) String checksum,
+            HttpServletRequest request
+    ) throws IOException {
+        return ResponseEntity.ok(assemblyUploadService.writeChunk(uploadId, offset, checksum, request.getInputStream()));
+    }
+
+    @PostMapping("/uploads/{uploadId}/complete")
+    public ResponseEntity<UploadSessionResponse> completeUpload(@PathVariable String uploadId) throws IOException {
+        return ResponseEntity.ok(assemblyUploadService.complete(uploadId));
+    }
+
+    @DeleteMapping("/uploads/{uploadId}")
+    public ResponseEntity<StatusResponse> abortUpload(@PathVariable String uploadId) throws IOException {
+        assemblyUploadService.abort(uploadId);
+        return ResponseEntity.ok(StatusResponse.success());
+    }
 }
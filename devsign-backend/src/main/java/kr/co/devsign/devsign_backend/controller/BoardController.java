@@ -5,6 +5,8 @@ import kr.co.devsign.devsign_backend.service.BoardService;
 import kr.co.devsign.devsign_backend.util.JwtUtil;
 import kr.co.devsign.devsign_backend.dto.board.CreateCommentRequest;
 import kr.co.devsign.devsign_backend.dto.board.CreatePostRequest;
+import kr.co.devsign.devsign_backend.dto.board.LikeToggleResponse;
+import kr.co.devsign.devsign_backend.dto.board.PostFeedResponse;
 import kr.co.devsign.devsign_backend.dto.board.PostResponse;
 import kr.co.devsign.devsign_backend.dto.board.UpdatePostRequest;
 import kr.co.devsign.devsign_backend.dto.common.StatusResponse;
@@ -26,6 +28,14 @@ public class BoardController {
         return boardService.getAllPosts();
     }
 
+    @GetMapping("/feed")
+    public PostFeedResponse getFeed(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return boardService.getFeed(cursor, size);
+    }
+
     @PostMapping
     public PostResponse createPost(@RequestBody CreatePostRequest payload, HttpServletRequest request) {
         String loginId = jwtUtil.getLoginIdFromRequest(request);
@@ -54,7 +64,7 @@ public class BoardController {
     }
 
     @PostMapping("/{id}/like")
-    public PostResponse toggleLike(
+    public LikeToggleResponse toggleLike(
             @PathVariable Long id,
             HttpServletRequest request
     ) {
@@ -83,7 +93,7 @@ public class BoardController {
     }
 
     @PostMapping("/{postId}/comments/{commentId}/like")
-    public PostResponse toggleCommentLike(
+    public LikeToggleResponse toggleCommentLike(
             @PathVariable Long postId,
             @PathVariable Long commentId,
             HttpServletRequest request
@@ -0,0 +1,32 @@
+package kr.co.devsign.devsign_backend.controller;
+
+import kr.co.devsign.devsign_backend.dto.admin.DiscordMemberEventBatch;
+import kr.co.devsign.devsign_backend.dto.admin.DiscordMemberEventResponse;
+import kr.co.devsign.devsign_backend.service.DiscordMemberEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+// 디스코드 봇 -> 백엔드 회원 변경 이벤트 수신 (JWT 대신 X-Bot-Secret 헤더로 인증)
+@RestController
+@RequestMapping("/api/discord")
+@RequiredArgsConstructor
+public class DiscordEventController {
+
+    private final DiscordMemberEventService discordMemberEventService;
+
+    @PostMapping("/events")
+    public ResponseEntity<DiscordMemberEventResponse> receiveEvents(
+            @RequestHeader(value = "X-Bot-Secret", required = false) String secret,
+            @RequestBody DiscordMemberEventBatch request
+    ) {
+        // 비로그인 요청이라 /error 로 넘기면 403으로 바뀌므로 상태 코드를 직접 응답합니다.
+        try {
+            discordMemberEventService.verifySecret(secret);
+            return ResponseEntity.ok(discordMemberEventService.accept(request.events()));
+        } catch (ResponseStatusException e) {
+            return ResponseEntity.status(e.getStatusCode()).build();
+        }
+    }
+}
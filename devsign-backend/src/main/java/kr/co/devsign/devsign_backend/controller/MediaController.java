@@ -0,0 +1,56 @@
+package kr.co.devsign.devsign_backend.controller;
+
+import kr.co.devsign.devsign_backend.service.MediaStorageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api/media")
+@RequiredArgsConstructor
+public class MediaController {
+
+    private final MediaStorageService mediaStorageService;
+
+    // 콘텐츠 해시 기반이라 내용이 바뀌지 않으므로 장기 캐시(immutable) 허용, Range 요청은 Resource 반환으로 처리
+    @GetMapping("/{hash}")
+    public ResponseEntity<Resource> getMedia(@PathVariable String hash, WebRequest webRequest) {
+        Optional<Path> path = mediaStorageService.find(hash);
+        if (path.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String etag = "\"" + hash + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        // 저장 시 확인된 이미지 타입만 인라인으로, 그 외(기존 파일 등)는 다운로드로만 응답
+        Optional<MediaType> imageType = mediaStorageService.findImageType(path.get());
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .header("X-Content-Type-Options", "nosniff");
+        if (imageType.isPresent()) {
+            response.contentType(imageType.get());
+        } else {
+            response.contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(hash).build().toString());
+        }
+        return response.body(new FileSystemResource(path.get()));
+    }
+}
@@ -0,0 +1,16 @@
+package kr.co.devsign.devsign_backend.dto.admin;
+
+import java.time.LocalDateTime;
+
+// 접근 로그 조회/내보내기 조건 (null인 항목은 조건에서 제외)
+public record AccessLogFilter(
+        String type,
+        String studentId,
+        String ip,
+        LocalDateTime from,
+        LocalDateTime to
+) {
+    public static AccessLogFilter none() {
+        return new AccessLogFilter(null, null, null, null, null);
+    }
+}
@@ -0,0 +1,12 @@
+package kr.co.devsign.devsign_backend.dto.admin;
+
+public record AccessLogMetricsResponse(
+        long enqueued,
+        long written,
+        long dropped,
+        long overflowed,
+        long failed,
+        int queueSize,
+        int queueCapacity
+) {
+}
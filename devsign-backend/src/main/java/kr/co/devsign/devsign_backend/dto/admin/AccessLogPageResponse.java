@@ -0,0 +1,9 @@
+package kr.co.devsign.devsign_backend.dto.admin;
+
+import java.util.List;
+
+public record AccessLogPageResponse(
+        List<AccessLogResponse> logs,
+        String nextCursor
+) {
+}
@@ -0,0 +1,9 @@
+package kr.co.devsign.devsign_backend.dto.admin;
+
+public record AccessLogRetentionResponse(
+        String status,
+        String message,
+        int hoursRolledUp,
+        int purged
+) {
+}
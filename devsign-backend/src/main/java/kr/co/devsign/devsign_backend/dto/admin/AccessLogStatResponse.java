@@ -0,0 +1,11 @@
+package kr.co.devsign.devsign_backend.dto.admin;
+
+import java.time.LocalDateTime;
+
+public record AccessLogStatResponse(
+        LocalDateTime bucketStart,
+        String dimension,
+        String value,
+        long count
+) {
+}
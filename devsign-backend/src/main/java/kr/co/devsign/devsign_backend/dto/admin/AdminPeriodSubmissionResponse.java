@@ -8,6 +8,12 @@ public record AdminPeriodSubmissionResponse(
         String presentationPath,
         String pdfPath,
         String otherPath,
-        String memo
+        String memo,
+        String presentationHash,
+        Integer presentationPages,
+        String pdfHash,
+        Integer pdfPages,
+        String otherHash,
+        boolean processed
 ) {
 }
@@ -0,0 +1,10 @@
+package kr.co.devsign.devsign_backend.dto.admin;
+
+public record AssemblyArchiveResponse(
+        String status,
+        String message,
+        int entries,
+        long sizeBytes,
+        Boolean cached
+) {
+}
@@ -0,0 +1,13 @@
+package kr.co.devsign.devsign_backend.dto.admin;
+
+public record AssemblyProcessingMetricsResponse(
+        long queued,
+        long processed,
+        long deduplicated,
+        long failed,
+        long rejected,
+        int active,
+        int queueSize,
+        int queueCapacity
+) {
+}
@@ -0,0 +1,21 @@
+package kr.co.devsign.devsign_backend.dto.admin;
+
+import java.util.Map;
+
+public record DiscordBotCallMetrics(
+        String operation,
+        long calls,
+        long failures,
+        long retries,
+        long rejected,
+        long shortCircuited,
+        int inFlight,
+        int maxConcurrent,
+        long p50Ms,
+        long p95Ms,
+        long p99Ms,
+        long maxMs,
+        // "<=50ms" 형태의 누적되지 않은 구간별 호출 수 ("+Inf"는 마지막 구간 초과)
+        Map<String, Long> latencyBuckets
+) {
+}
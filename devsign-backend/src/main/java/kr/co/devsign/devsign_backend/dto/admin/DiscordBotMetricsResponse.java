@@ -0,0 +1,11 @@
+package kr.co.devsign.devsign_backend.dto.admin;
+
+import java.util.List;
+
+public record DiscordBotMetricsResponse(
+        String baseUrl,
+        String circuitState,
+        int consecutiveFailures,
+        List<DiscordBotCallMetrics> calls
+) {
+}
@@ -0,0 +1,12 @@
+package kr.co.devsign.devsign_backend.dto.admin;
+
+// 디스코드 서버 기준 회원 정보 (봇 /sync-all-members 응답 한 건)
+public record DiscordMemberData(
+        String discordTag,
+        String name,
+        String studentId,
+        String userStatus,
+        String role,
+        String avatarUrl
+) {
+}
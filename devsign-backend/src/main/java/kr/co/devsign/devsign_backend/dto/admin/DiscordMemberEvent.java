@@ -0,0 +1,15 @@
+package kr.co.devsign.devsign_backend.dto.admin;
+
+// 봇이 보내는 디스코드 회원 변경 이벤트 한 건 (별명/역할/아바타 변경)
+// null인 필드는 "변경 없음"으로 취급하며, occurredAt은 epoch 밀리초입니다.
+public record DiscordMemberEvent(
+        String eventId,
+        String discordTag,
+        String name,
+        String studentId,
+        String userStatus,
+        String role,
+        String avatarUrl,
+        Long occurredAt
+) {
+}
@@ -0,0 +1,8 @@
+package kr.co.devsign.devsign_backend.dto.admin;
+
+import java.util.List;
+
+public record DiscordMemberEventBatch(
+        List<DiscordMemberEvent> events
+) {
+}
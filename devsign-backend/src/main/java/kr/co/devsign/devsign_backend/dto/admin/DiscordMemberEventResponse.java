@@ -0,0 +1,11 @@
+package kr.co.devsign.devsign_backend.dto.admin;
+
+// accepted = 새로 받은 이벤트, duplicates = 이미 처리한 eventId, invalid = eventId/discordTag 누락
+// pending = 아직 반영 대기 중인 회원 수 (coalesce-window-ms마다 반영)
+public record DiscordMemberEventResponse(
+        int accepted,
+        int duplicates,
+        int invalid,
+        int pending
+) {
+}
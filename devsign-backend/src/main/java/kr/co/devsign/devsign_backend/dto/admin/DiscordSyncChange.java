@@ -0,0 +1,10 @@
+package kr.co.devsign.devsign_backend.dto.admin;
+
+import java.util.List;
+
+public record DiscordSyncChange(
+        String loginId,
+        String discordTag,
+        List<String> fields
+) {
+}
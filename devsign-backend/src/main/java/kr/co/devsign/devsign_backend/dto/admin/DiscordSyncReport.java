@@ -0,0 +1,22 @@
+package kr.co.devsign.devsign_backend.dto.admin;
+
+import java.util.List;
+import java.util.Map;
+
+public record DiscordSyncReport(
+        int guildMembers,
+        int changed,
+        int unchanged,
+        // 디스코드에는 있지만 가입된 계정이 없는 멤버
+        int unmatched,
+        // 계정은 있지만 디스코드 서버에서 찾을 수 없는 회원
+        int missing,
+        Map<String, Integer> changedFields,
+        List<DiscordSyncChange> changes,
+        List<String> unmatchedTags,
+        List<String> missingLoginIds,
+        long fetchMs,
+        long diffMs,
+        long applyMs
+) {
+}
@@ -0,0 +1,12 @@
+package kr.co.devsign.devsign_backend.dto.admin;
+
+public record MediaMigrationResponse(
+        String status,
+        String message,
+        int members,
+        int posts,
+        int comments,
+        int notices,
+        int events
+) {
+}
@@ -0,0 +1,19 @@
+package kr.co.devsign.devsign_backend.dto.admin;
+
+// 제출 목록용 보고서 + 회원(이름/학번) 조인 결과 (프로필 이미지 등 큰 컬럼은 읽지 않음)
+public record SubmittedReportRow(
+        String loginId,
+        String name,
+        String studentId,
+        String submitDate,
+        String presentationPath,
+        String pdfPath,
+        String otherPath,
+        String memo,
+        String presentationHash,
+        Integer presentationPages,
+        String pdfHash,
+        Integer pdfPages,
+        String otherHash
+) {
+}
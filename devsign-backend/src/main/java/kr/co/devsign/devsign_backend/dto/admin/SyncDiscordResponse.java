@@ -2,6 +2,7 @@ package kr.co.devsign.devsign_backend.dto.admin;
 
 public record SyncDiscordResponse(
         String status,
-        String message
+        String message,
+        DiscordSyncReport report
 ) {
 }
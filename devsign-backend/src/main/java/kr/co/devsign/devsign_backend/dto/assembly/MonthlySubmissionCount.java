@@ -0,0 +1,8 @@
+package kr.co.devsign.devsign_backend.dto.assembly;
+
+public record MonthlySubmissionCount(
+        int semester,
+        int month,
+        long count
+) {
+}
@@ -11,6 +11,10 @@ public record SubmitFilesCommand(
         String memo,
         MultipartFile presentation,
         MultipartFile pdf,
-        MultipartFile other
+        MultipartFile other,
+        // 분할 업로드(complete까지 끝난 세션)로 올린 파일
+        String presentationUploadId,
+        String pdfUploadId,
+        String otherUploadId
 ) {
 }
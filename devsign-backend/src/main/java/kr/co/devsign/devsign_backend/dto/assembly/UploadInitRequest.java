@@ -0,0 +1,10 @@
+package kr.co.devsign.devsign_backend.dto.assembly;
+
+public record UploadInitRequest(
+        String loginId,
+        Integer month,
+        String category,
+        String fileName,
+        Long totalSize
+) {
+}
@@ -0,0 +1,10 @@
+package kr.co.devsign.devsign_backend.dto.assembly;
+
+public record UploadSessionResponse(
+        String uploadId,
+        String status,
+        long receivedBytes,
+        long totalSize,
+        long maxChunkSize
+) {
+}
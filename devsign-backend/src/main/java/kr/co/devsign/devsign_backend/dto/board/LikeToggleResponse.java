@@ -0,0 +1,10 @@
+package kr.co.devsign.devsign_backend.dto.board;
+
+// 게시글/댓글 좋아요 토글 결과 (전체 게시글 대신 변경분만 반환)
+public record LikeToggleResponse(
+        String status,
+        String message,
+        Boolean liked,
+        Integer likeCount
+) {
+}
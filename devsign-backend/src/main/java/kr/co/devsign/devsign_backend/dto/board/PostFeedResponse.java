@@ -0,0 +1,9 @@
+package kr.co.devsign.devsign_backend.dto.board;
+
+import java.util.List;
+
+public record PostFeedResponse(
+        List<PostSummaryResponse> posts,
+        Long nextCursor
+) {
+}
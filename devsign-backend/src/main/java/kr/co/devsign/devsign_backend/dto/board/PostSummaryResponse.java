@@ -0,0 +1,28 @@
+package kr.co.devsign.devsign_backend.dto.board;
+
+import java.time.LocalDateTime;
+
+public record PostSummaryResponse(
+        Long id,
+        String title,
+        String contentPreview,
+        String category,
+        String author,
+        String loginId,
+        String studentId,
+        String profileImage,
+        int views,
+        int likes,
+        long commentCount,
+        int imageCount,
+        LocalDateTime createdAt,
+        String date
+) {
+    // 피드 쿼리용 생성자: 프로필 이미지는 작성자 프로필 캐시에서 채웁니다.
+    public PostSummaryResponse(Long id, String title, String contentPreview, String category, String author,
+                               String loginId, String studentId, int views, int likes, long commentCount,
+                               int imageCount, LocalDateTime createdAt, String date) {
+        this(id, title, contentPreview, category, author, loginId, studentId, null,
+                views, likes, commentCount, imageCount, createdAt, date);
+    }
+}
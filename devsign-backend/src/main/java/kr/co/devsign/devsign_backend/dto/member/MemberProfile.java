@@ -0,0 +1,10 @@
+package kr.co.devsign.devsign_backend.dto.member;
+
+public record MemberProfile(
+        Long id,
+        String loginId,
+        String name,
+        String studentId,
+        String profileImage
+) {
+}
@@ -0,0 +1,8 @@
+package kr.co.devsign.devsign_backend.dto.member;
+
+public record MemberSuspensionState(
+        String loginId,
+        boolean suspended,
+        int tokenVersion
+) {
+}
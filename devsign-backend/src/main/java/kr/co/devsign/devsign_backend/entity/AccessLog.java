@@ -7,7 +7,14 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter @Setter
-@Table(name = "access_log") // DB에 생성될 테이블 이름
+@Table(
+        name = "access_log", // DB에 생성될 테이블 이름
+        indexes = {
+                // ✨ 관리자 로그 조회: 기간 조회 / 유형+기간 조회용
+                @Index(name = "idx_access_log_timestamp", columnList = "timestamp"),
+                @Index(name = "idx_access_log_type_timestamp", columnList = "type, timestamp")
+        }
+)
 public class AccessLog {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,41 @@
+package kr.co.devsign.devsign_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+// ✨ 접근 로그 집계 (시간/일 단위 버킷 × 유형/회원/IP별 건수)
+// 원본 access_log는 보존 기간이 지나면 삭제되고, 관리자 통계는 이 테이블을 읽습니다.
+@Entity
+@Getter @Setter
+@Table(
+        name = "access_log_rollup",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_access_log_rollup_bucket",
+                columnNames = {"granularity", "bucket_start", "dimension", "dimension_value"}
+        ),
+        indexes = @Index(name = "idx_access_log_rollup_lookup", columnList = "granularity, dimension, bucket_start")
+)
+public class AccessLogRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // HOUR, DAY
+    @Column(nullable = false, length = 8)
+    private String granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    // TOTAL, TYPE, MEMBER(학번), IP
+    @Column(nullable = false, length = 16)
+    private String dimension;
+
+    @Column(name = "dimension_value", nullable = false)
+    private String dimensionValue;
+
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+}
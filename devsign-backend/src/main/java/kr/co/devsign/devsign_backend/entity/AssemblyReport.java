@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter @Setter
 public class AssemblyReport {
@@ -33,4 +35,18 @@ public class AssemblyReport {
     private String presentationPath;
     private String pdfPath;
     private String otherPath;
+
+    // ✨ 업로드 후 백그라운드에서 채워지는 파일 정보 (null = 아직 처리 전)
+    @Column(length = 64)
+    private String presentationHash;
+    private Integer presentationPages;
+
+    @Column(length = 64)
+    private String pdfHash;
+    private Integer pdfPages;
+
+    @Column(length = 64)
+    private String otherHash;
+
+    private LocalDateTime processedAt;
 }
\ No newline at end of file
@@ -6,7 +6,10 @@ import lombok.Setter;
 
 @Entity
 @Getter @Setter
-@Table(name = "comment_likes")
+@Table(
+        name = "comment_likes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_comment_likes_member_comment", columnNames = {"member_id", "comment_id"})
+)
 public class CommentLike {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -34,6 +34,10 @@ public class Member {
 
     private boolean suspended = false;
 
+    // ✨ 정지 시 증가 → 이전에 발급된 토큰 무효화 (app.security.token-version-check)
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int tokenVersion = 0;
+
     @Column(nullable = false, columnDefinition = "TINYINT(1) DEFAULT 0")
     private boolean deleted = false;
 
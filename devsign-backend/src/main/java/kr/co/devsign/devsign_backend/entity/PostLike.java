@@ -6,7 +6,10 @@ import lombok.Setter;
 
 @Entity
 @Getter @Setter
-@Table(name = "post_likes") // 테이블명 명시
+@Table(
+        name = "post_likes", // 테이블명 명시
+        uniqueConstraints = @UniqueConstraint(name = "uk_post_likes_member_post", columnNames = {"member_id", "post_id"})
+)
 public class PostLike {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
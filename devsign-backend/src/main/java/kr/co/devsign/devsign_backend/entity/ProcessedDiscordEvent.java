@@ -0,0 +1,23 @@
+package kr.co.devsign.devsign_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+// ✨ 봇이 보낸 회원 변경 이벤트 ID 기록 (같은 이벤트가 재전송되어도 한 번만 반영)
+// retention-hours가 지난 기록은 주기적으로 삭제합니다.
+@Entity
+@Getter @Setter
+@Table(
+        name = "processed_discord_event",
+        indexes = @Index(name = "idx_processed_discord_event_received_at", columnList = "received_at")
+)
+public class ProcessedDiscordEvent {
+    @Id
+    @Column(name = "event_id", length = 64)
+    private String eventId;
+
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+}
@@ -0,0 +1,32 @@
+package kr.co.devsign.devsign_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+// ✨ 내용 주소(SHA-256) 기반 제출 파일 저장소의 blob 메타데이터
+// ref_count = 이 blob을 가리키는 AssemblyReport 경로 수 (0이 되고 유예 시간이 지나면 GC가 파일을 삭제)
+@Entity
+@Getter @Setter
+@Table(
+        name = "stored_blob",
+        indexes = @Index(name = "idx_stored_blob_ref_count", columnList = "ref_count, updated_at")
+)
+public class StoredBlob {
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(name = "byte_size", nullable = false)
+    private long byteSize;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
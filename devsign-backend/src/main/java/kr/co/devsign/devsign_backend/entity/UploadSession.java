@@ -0,0 +1,53 @@
+package kr.co.devsign.devsign_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+// ✨ 어셈블리 제출물 분할 업로드 세션
+// 청크는 업로드 폴더의 임시 파일(.upload-<id>.part)에 위치 지정 쓰기로 저장되고,
+// 제출(submit) 시 같은 폴더 안에서 최종 파일명으로 이름만 바뀝니다.
+@Entity
+@Getter @Setter
+@Table(
+        name = "upload_session",
+        indexes = @Index(name = "idx_upload_session_updated_at", columnList = "updated_at")
+)
+public class UploadSession {
+    public static final String UPLOADING = "UPLOADING";
+    public static final String COMPLETED = "COMPLETED";
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(nullable = false)
+    private String loginId;
+
+    @Column(name = "report_month", nullable = false)
+    private int month;
+
+    // presentation, pdf, other
+    @Column(nullable = false, length = 16)
+    private String category;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    @Column(nullable = false)
+    private long totalSize;
+
+    @Column(nullable = false)
+    private long receivedBytes;
+
+    // UPLOADING, COMPLETED
+    @Column(nullable = false, length = 16)
+    private String status;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,32 @@
+package kr.co.devsign.devsign_backend.repository;
+
+import kr.co.devsign.devsign_backend.entity.AccessLogRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AccessLogRollupRepository extends JpaRepository<AccessLogRollup, Long> {
+
+    // 관리자 통계: 기간 내 버킷 조회
+    @Query("""
+            select r from AccessLogRollup r
+            where r.granularity = :granularity and r.dimension = :dimension
+              and r.bucketStart >= :from and r.bucketStart < :to
+            order by r.bucketStart asc, r.eventCount desc
+            """)
+    List<AccessLogRollup> findBuckets(
+            @Param("granularity") String granularity,
+            @Param("dimension") String dimension,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    // 집계가 끝난 마지막 버킷 (TOTAL 행은 빈 시간대도 기록하므로 워터마크로 사용)
+    @Query("select max(r.bucketStart) from AccessLogRollup r where r.granularity = :granularity and r.dimension = 'TOTAL'")
+    LocalDateTime findLastBucketStart(@Param("granularity") String granularity);
+}
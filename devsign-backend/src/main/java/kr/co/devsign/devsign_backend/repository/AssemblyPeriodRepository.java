@@ -3,6 +3,7 @@ package kr.co.devsign.devsign_backend.repository;
 import kr.co.devsign.devsign_backend.entity.AssemblyPeriod;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,4 +11,6 @@ public interface AssemblyPeriodRepository extends JpaRepository<AssemblyPeriod,
     List<AssemblyPeriod> findByYearOrderByMonthAsc(int year);
 
     Optional<AssemblyPeriod> findByYearAndSemesterAndMonth(int year, int semester, int month);
+
+    List<AssemblyPeriod> findByEndDateBetween(LocalDate from, LocalDate to);
 }
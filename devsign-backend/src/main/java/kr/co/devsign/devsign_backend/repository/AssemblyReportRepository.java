@@ -1,7 +1,11 @@
 package kr.co.devsign.devsign_backend.repository;
 
+import kr.co.devsign.devsign_backend.dto.admin.SubmittedReportRow;
+import kr.co.devsign.devsign_backend.dto.assembly.MonthlySubmissionCount;
 import kr.co.devsign.devsign_backend.entity.AssemblyReport;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface AssemblyReportRepository extends JpaRepository<AssemblyReport, Long> {
@@ -9,7 +13,34 @@ public interface AssemblyReportRepository extends JpaRepository<AssemblyReport,
 
     long countByYearAndSemesterAndMonthAndStatus(int year, int semester, int month, String status);
 
+    // 관리자 기간 대시보드: 연도 전체의 월별 제출 수를 한 번에 집계
+    @Query("""
+            select new kr.co.devsign.devsign_backend.dto.assembly.MonthlySubmissionCount(r.semester, r.month, count(r))
+            from AssemblyReport r
+            where r.year = :year and r.status = :status
+            group by r.semester, r.month
+            """)
+    List<MonthlySubmissionCount> countByYearAndStatusGroupByMonth(@Param("year") int year, @Param("status") String status);
+
     List<AssemblyReport> findByYearAndSemesterAndMonthAndStatusOrderByIdDesc(int year, int semester, int month, String status);
 
+    // 관리자 제출 목록: 회원 이름/학번을 같은 쿼리에서 조인 (회원이 없으면 null)
+    @Query("""
+            select new kr.co.devsign.devsign_backend.dto.admin.SubmittedReportRow(
+                r.loginId, m.name, m.studentId, r.date,
+                r.presentationPath, r.pdfPath, r.otherPath, r.memo,
+                r.presentationHash, r.presentationPages, r.pdfHash, r.pdfPages, r.otherHash)
+            from AssemblyReport r
+            left join Member m on m.loginId = r.loginId
+            where r.year = :year and r.semester = :semester and r.month = :month and r.status = :status
+            order by r.id desc
+            """)
+    List<SubmittedReportRow> findSubmittedRows(
+            @Param("year") int year,
+            @Param("semester") int semester,
+            @Param("month") int month,
+            @Param("status") String status
+    );
+
     List<AssemblyReport> findByLoginIdInAndYearAndMonthAndStatus(List<String> loginIds, int year, int month, String status);
 }
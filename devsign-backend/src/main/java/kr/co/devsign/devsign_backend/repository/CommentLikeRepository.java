@@ -5,7 +5,11 @@ import kr.co.devsign.devsign_backend.entity.CommentLike;
 import kr.co.devsign.devsign_backend.entity.Member;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,6 +20,20 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
     // 좋아요 여부 확인 (하트 표시용)
     boolean existsByMemberAndComment(Member member, Comment comment);
 
+    // 게시글 하나에서 회원이 좋아요 누른 댓글/대댓글 id 일괄 조회 (댓글별 exists 반복 방지)
+    @Query("select cl.comment.id from CommentLike cl where cl.member.id = :memberId and cl.comment.post.id = :postId")
+    List<Long> findLikedCommentIds(@Param("memberId") Long memberId, @Param("postId") Long postId);
+
+    // 좋아요 토글: 삭제된 행 수로 취소 여부 판단
+    @Modifying
+    @Query("delete from CommentLike cl where cl.member.id = :memberId and cl.comment.id = :commentId")
+    int deleteLike(@Param("memberId") Long memberId, @Param("commentId") Long commentId);
+
+    // 좋아요 토글: (member_id, comment_id) 유니크 제약으로 동시 요청에도 한 건만 들어감
+    @Modifying
+    @Query(value = "insert ignore into comment_likes (member_id, comment_id) values (:memberId, :commentId)", nativeQuery = true)
+    int insertLike(@Param("memberId") Long memberId, @Param("commentId") Long commentId);
+
     // 댓글 삭제 시 좋아요 기록도 같이 삭제
     void deleteByComment(Comment comment);
 }
\ No newline at end of file
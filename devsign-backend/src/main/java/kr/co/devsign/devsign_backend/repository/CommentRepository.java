@@ -3,10 +3,14 @@ package kr.co.devsign.devsign_backend.repository;
 import kr.co.devsign.devsign_backend.entity.Comment;
 import kr.co.devsign.devsign_backend.entity.Post;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -14,6 +18,17 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     // 댓글을 최신순(ID 내림차순)으로 조회
     List<Comment> findByPostOrderByIdDesc(Post post);
 
+    // 상세 조회용: 대댓글 포함 게시글의 전체 댓글을 한 번에 조회 (트리는 서비스에서 parent 기준 조립)
+    List<Comment> findByPostIdOrderByIdAsc(Long postId);
+
+    // 좋아요 수 원자적 증감 (엔티티 전체 저장 없이 카운터 컬럼만 갱신, 0 미만 방지)
+    @Modifying
+    @Query("update Comment c set c.likes = c.likes + :delta where c.id = :id and c.likes + :delta >= 0")
+    int adjustLikes(@Param("id") Long id, @Param("delta") int delta);
+
+    @Query("select c.likes from Comment c where c.id = :id and c.post.id = :postId")
+    Optional<Integer> findLikesByIdAndPostId(@Param("id") Long id, @Param("postId") Long postId);
+
     // 게시글 삭제시 댓글도 삭제
     @Transactional
     void deleteByPost(Post post);
@@ -1,9 +1,14 @@
 package kr.co.devsign.devsign_backend.repository;
 
+import kr.co.devsign.devsign_backend.dto.member.MemberProfile;
+import kr.co.devsign.devsign_backend.dto.member.MemberSuspensionState;
 import kr.co.devsign.devsign_backend.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,4 +31,18 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByLoginIdAndDeletedTrue(String loginId);
 
     long countByDeletedFalse();
+
+    // 정지 레지스트리 적재용 (정지 중이거나 토큰 버전이 올라간 회원만)
+    @Query("""
+            select new kr.co.devsign.devsign_backend.dto.member.MemberSuspensionState(m.loginId, m.suspended, m.tokenVersion)
+            from Member m
+            where m.suspended = true or m.tokenVersion > 0
+            """)
+    List<MemberSuspensionState> findSuspensionStates();
+
+    @Query("select new kr.co.devsign.devsign_backend.dto.member.MemberSuspensionState(m.loginId, m.suspended, m.tokenVersion) from Member m where m.loginId = :loginId")
+    Optional<MemberSuspensionState> findSuspensionStateByLoginId(@Param("loginId") String loginId);
+
+    // 작성자 프로필 캐시용 경량 조회
+    List<MemberProfile> findProfilesByLoginIdIn(Collection<String> loginIds);
 }
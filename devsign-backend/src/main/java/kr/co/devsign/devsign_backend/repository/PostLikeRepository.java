@@ -4,6 +4,9 @@ import kr.co.devsign.devsign_backend.entity.Member;
 import kr.co.devsign.devsign_backend.entity.Post;
 import kr.co.devsign.devsign_backend.entity.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +18,8 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     // 특정 회원이 특정 게시글에 좋아요 눌렀는지 확인
     boolean existsByMemberAndPost(Member member, Post post);
 
+    boolean existsByMemberIdAndPostId(Long memberId, Long postId);
+
     // 좋아요 취소 처리를 위한 데이터 찾기
     Optional<PostLike> findByMemberAndPost(Member member, Post post);
 
@@ -22,6 +27,16 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     @Transactional
     void deleteByMemberAndPost(Member member, Post post);
 
+    // 좋아요 토글: 삭제된 행 수로 취소 여부 판단
+    @Modifying
+    @Query("delete from PostLike pl where pl.member.id = :memberId and pl.post.id = :postId")
+    int deleteLike(@Param("memberId") Long memberId, @Param("postId") Long postId);
+
+    // 좋아요 토글: (member_id, post_id) 유니크 제약으로 동시 요청에도 한 건만 들어감
+    @Modifying
+    @Query(value = "insert ignore into post_likes (member_id, post_id) values (:memberId, :postId)", nativeQuery = true)
+    int insertLike(@Param("memberId") Long memberId, @Param("postId") Long postId);
+
     // 특정 게시글 삭제 시 연결된 모든 좋아요 기록 삭제
     @Transactional
     void deleteByPost(Post post);
@@ -1,12 +1,46 @@
 package kr.co.devsign.devsign_backend.repository;
 
+import kr.co.devsign.devsign_backend.dto.board.PostSummaryResponse;
 import kr.co.devsign.devsign_backend.entity.Post;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
     // 게시글을 최신순으로 가져옴
     List<Post> findAllByOrderByIdDesc();
+
+    // 상세 조회용: 첨부 이미지 컬렉션을 게시글과 한 번에 조회
+    @EntityGraph(attributePaths = "images")
+    Optional<Post> findWithImagesById(Long id);
+
+    // 좋아요 수 원자적 증감 (엔티티 전체 저장 없이 카운터 컬럼만 갱신, 0 미만 방지)
+    @Modifying
+    @Query("update Post p set p.likes = p.likes + :delta where p.id = :id and p.likes + :delta >= 0")
+    int adjustLikes(@Param("id") Long id, @Param("delta") int delta);
+
+    @Query("select p.likes from Post p where p.id = :id")
+    Optional<Integer> findLikesById(@Param("id") Long id);
+
+    // 피드 목록용 경량 조회 (댓글 트리/이미지 본문 없이 id 기준 keyset 페이지네이션)
+    // 본문은 앞부분 200자만 DB에서 잘라 가져옵니다. (LONGTEXT 본문 전체를 읽지 않음)
+    @Query("""
+            select new kr.co.devsign.devsign_backend.dto.board.PostSummaryResponse(
+                p.id, p.title, substring(p.content, 1, 200), p.category, p.author, p.loginId, p.studentId,
+                p.views, p.likes,
+                (select count(c) from Comment c where c.post = p),
+                size(p.images),
+                p.createdAt, p.date)
+            from Post p
+            where p.id < :cursor
+            order by p.id desc
+            """)
+    List<PostSummaryResponse> findFeedBefore(@Param("cursor") Long cursor, Pageable pageable);
 }
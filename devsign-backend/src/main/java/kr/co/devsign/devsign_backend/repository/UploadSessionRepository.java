@@ -0,0 +1,11 @@
+package kr.co.devsign.devsign_backend.repository;
+
+import kr.co.devsign.devsign_backend.entity.UploadSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+    List<UploadSession> findTop100ByUpdatedAtBeforeOrderByUpdatedAtAsc(LocalDateTime threshold);
+}
@@ -0,0 +1,218 @@
+package kr.co.devsign.devsign_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import kr.co.devsign.devsign_backend.dto.admin.AccessLogFilter;
+import kr.co.devsign.devsign_backend.dto.admin.AccessLogPageResponse;
+import kr.co.devsign.devsign_backend.dto.admin.AccessLogResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// ✨ 관리자 접근 로그 조회
+// 조건에 맞는 WHERE 절만 동적으로 만들어 인덱스(timestamp / type+timestamp)를 타게 하고,
+// 목록은 (timestamp, id) 기준 keyset 페이지, 내보내기는 JDBC 커서에서 읽는 대로 바로 씁니다.
+// 정렬도 timestamp desc, id desc라서 InnoDB 보조 인덱스(끝에 PK 포함)가 조건과 정렬을 함께 처리합니다.
+@Service
+@RequiredArgsConstructor
+public class AccessLogQueryService {
+
+    private record Cursor(LocalDateTime timestamp, long id) {
+    }
+
+    private static final String SELECT_COLUMNS = "select id, name, student_id, type, ip, timestamp from access_log";
+    private static final ObjectMapper NDJSON_MAPPER = new ObjectMapper();
+
+    private static final RowMapper<AccessLogResponse> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp timestamp = rs.getTimestamp("timestamp");
+        return new AccessLogResponse(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("student_id"),
+                rs.getString("type"),
+                rs.getString("ip"),
+                timestamp != null ? timestamp.toLocalDateTime() : null
+        );
+    };
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Value("${app.access-log.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${app.access-log.page.max-size:500}")
+    private int maxPageSize;
+
+    // MySQL Connector/J는 Integer.MIN_VALUE일 때 결과를 한 행씩 스트리밍합니다.
+    @Value("${app.access-log.export-fetch-size:-2147483648}")
+    private int exportFetchSize;
+
+    private NamedParameterJdbcTemplate exportTemplate;
+
+    @PostConstruct
+    void init() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(namedParameterJdbcTemplate.getJdbcTemplate().getDataSource());
+        jdbcTemplate.setFetchSize(exportFetchSize);
+        exportTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    // 요청 파라미터 size만 max-size로 제한합니다.
+    public AccessLogPageResponse search(AccessLogFilter filter, String cursor, Integer size) {
+        int pageSize = (size == null || size <= 0) ? defaultPageSize : Math.min(size, maxPageSize);
+        return page(filter, parseCursor(cursor), pageSize);
+    }
+
+    // 내부 호출용: 최근 limit건 (max-size 제한 없음)
+    public List<AccessLogResponse> recent(AccessLogFilter filter, int limit) {
+        return page(filter, null, limit).logs();
+    }
+
+    private AccessLogPageResponse page(AccessLogFilter filter, Cursor cursor, int pageSize) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        String sql = SELECT_COLUMNS + where(filter, cursor, params) + " order by timestamp desc, id desc limit :limit";
+        params.addValue("limit", pageSize + 1);
+
+        List<AccessLogResponse> rows = namedParameterJdbcTemplate.query(sql, params, ROW_MAPPER);
+        boolean hasNext = rows.size() > pageSize;
+        List<AccessLogResponse> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? formatCursor(page.get(page.size() - 1)) : null;
+        return new AccessLogPageResponse(List.copyOf(page), nextCursor);
+    }
+
+    // format: "csv" 또는 그 외(ndjson). 행을 List로 모으지 않고 읽는 즉시 writer에 씁니다.
+    public void export(AccessLogFilter filter, String format, Writer writer) throws IOException {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (csv) {
+            writer.write("id,name,studentId,type,ip,timestamp\n");
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = SELECT_COLUMNS + where(filter, null, params) + " order by timestamp desc, id desc";
+
+        try {
+            exportTemplate.query(sql, params, rs -> {
+                AccessLogResponse row = ROW_MAPPER.mapRow(rs, 0);
+                try {
+                    writer.write(csv ? toCsvLine(row) : toJsonLine(row));
+                } catch (IOException e) {
+                    // 클라이언트 연결이 끊기면 커서 읽기를 중단
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private String where(AccessLogFilter filter, Cursor cursor, MapSqlParameterSource params) {
+        StringBuilder where = new StringBuilder();
+        if (cursor != null) {
+            appendCondition(where, "(timestamp < :cursorTimestamp or (timestamp = :cursorTimestamp and id < :cursorId))");
+            params.addValue("cursorTimestamp", Timestamp.valueOf(cursor.timestamp()));
+            params.addValue("cursorId", cursor.id());
+        }
+        if (filter == null) {
+            return where.toString();
+        }
+
+        if (StringUtils.hasText(filter.type())) {
+            appendCondition(where, "type = :type");
+            params.addValue("type", filter.type());
+        }
+        if (StringUtils.hasText(filter.studentId())) {
+            appendCondition(where, "student_id = :studentId");
+            params.addValue("studentId", filter.studentId());
+        }
+        if (StringUtils.hasText(filter.ip())) {
+            appendCondition(where, "ip = :ip");
+            params.addValue("ip", filter.ip());
+        }
+        if (filter.from() != null) {
+            appendCondition(where, "timestamp >= :from");
+            params.addValue("from", Timestamp.valueOf(filter.from()));
+        }
+        if (filter.to() != null) {
+            appendCondition(where, "timestamp < :to");
+            params.addValue("to", Timestamp.valueOf(filter.to()));
+        }
+        return where.toString();
+    }
+
+    // 커서 형식: "{timestamp}_{id}" (예: 2026-03-01T12:30:15.123_4821)
+    private String formatCursor(AccessLogResponse row) {
+        return row.timestamp() + "_" + row.id();
+    }
+
+    private Cursor parseCursor(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        int separator = cursor.lastIndexOf('_');
+        try {
+            return new Cursor(
+                    LocalDateTime.parse(cursor.substring(0, separator)),
+                    Long.parseLong(cursor.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid cursor");
+        }
+    }
+
+    private void appendCondition(StringBuilder where, String condition) {
+        where.append(where.isEmpty() ? " where " : " and ").append(condition);
+    }
+
+    private String toJsonLine(AccessLogResponse row) throws IOException {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("id", row.id());
+        data.put("name", row.name());
+        data.put("studentId", row.studentId());
+        data.put("type", row.type());
+        data.put("ip", row.ip());
+        data.put("timestamp", format(row.timestamp()));
+        return NDJSON_MAPPER.writeValueAsString(data) + "\n";
+    }
+
+    private String toCsvLine(AccessLogResponse row) {
+        return String.join(",",
+                String.valueOf(row.id()),
+                csv(row.name()),
+                csv(row.studentId()),
+                csv(row.type()),
+                csv(row.ip()),
+                csv(format(row.timestamp()))
+        ) + "\n";
+    }
+
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private String format(LocalDateTime timestamp) {
+        return timestamp != null ? timestamp.toString() : null;
+    }
+}
@@ -0,0 +1,234 @@
+package kr.co.devsign.devsign_backend.service;
+
+import kr.co.devsign.devsign_backend.dto.admin.AccessLogRetentionResponse;
+import kr.co.devsign.devsign_backend.dto.admin.AccessLogStatResponse;
+import kr.co.devsign.devsign_backend.repository.AccessLogRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// ✨ 접근 로그 집계/보존 기간 관리
+// 1) 끝난 시간대의 원본 로그를 시간 단위(HOUR)로 집계하고, 시간 집계를 합쳐 일 단위(DAY)를 갱신합니다.
+// 2) 집계가 끝났고 보존 기간이 지난 원본 행은 작은 배치로 나눠 삭제합니다. (긴 테이블 락 방지)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccessLogRetentionService {
+
+    public static final String HOUR = "HOUR";
+    public static final String DAY = "DAY";
+
+    private static final String UPSERT_SQL = """
+            insert into access_log_rollup (granularity, bucket_start, dimension, dimension_value, event_count)
+            values (?, ?, ?, ?, ?)
+            on duplicate key update event_count = values(event_count)
+            """;
+
+    private record RollupKey(LocalDateTime bucketStart, String dimension, String value) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final AccessLogRollupRepository accessLogRollupRepository;
+
+    @Value("${app.access-log.retention-days:90}")
+    private int retentionDays;
+
+    // 한 번에 원본을 읽어 집계하는 시간 범위 (메모리 사용량 제한)
+    @Value("${app.access-log.rollup-chunk-hours:24}")
+    private int chunkHours;
+
+    // 비동기 기록 지연을 고려해 현재 시각에서 이만큼 지난 시간대까지만 집계
+    @Value("${app.access-log.rollup-grace-minutes:5}")
+    private int graceMinutes;
+
+    @Value("${app.access-log.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    @Value("${app.access-log.purge-pause-ms:50}")
+    private long purgePauseMs;
+
+    @Scheduled(
+            fixedDelayString = "${app.access-log.rollup-interval-ms:600000}",
+            initialDelayString = "${app.access-log.rollup-interval-ms:600000}"
+    )
+    public void scheduledRun() {
+        try {
+            run();
+        } catch (Exception e) {
+            log.warn("access log rollup/purge failed: {}", e.getMessage());
+        }
+    }
+
+    public synchronized AccessLogRetentionResponse run() {
+        int hours = rollUp();
+        int purged = purgeExpired();
+        return new AccessLogRetentionResponse("success", null, hours, purged);
+    }
+
+    // 관리자 통계 (rollup 테이블만 조회)
+    public List<AccessLogStatResponse> getStats(String granularity, String dimension, LocalDateTime from, LocalDateTime to) {
+        String unit = DAY.equalsIgnoreCase(granularity) ? DAY : HOUR;
+        String dim = StringUtils.hasText(dimension) ? dimension.toUpperCase() : "TYPE";
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(DAY.equals(unit) ? 30 : 1);
+
+        return accessLogRollupRepository.findBuckets(unit, dim, start, end).stream()
+                .map(r -> new AccessLogStatResponse(r.getBucketStart(), r.getDimension(), r.getDimensionValue(), r.getEventCount()))
+                .toList();
+    }
+
+    // 반환값: 집계한 시간 버킷 수
+    int rollUp() {
+        LocalDateTime end = LocalDateTime.now().minusMinutes(graceMinutes).truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime start = nextHourToRollUp();
+        if (start == null || !start.isBefore(end)) {
+            return 0;
+        }
+
+        int hours = 0;
+        for (LocalDateTime chunkStart = start; chunkStart.isBefore(end); chunkStart = chunkStart.plusHours(chunkHours)) {
+            LocalDateTime chunkEnd = chunkStart.plusHours(chunkHours).isBefore(end) ? chunkStart.plusHours(chunkHours) : end;
+            rollUpHours(chunkStart, chunkEnd);
+            rollUpDays(chunkStart, chunkEnd);
+            hours += (int) ChronoUnit.HOURS.between(chunkStart, chunkEnd);
+        }
+        return hours;
+    }
+
+    // 반환값: 삭제한 원본 행 수
+    int purgeExpired() {
+        LocalDateTime lastHour = accessLogRollupRepository.findLastBucketStart(HOUR);
+        if (lastHour == null) {
+            return 0;
+        }
+
+        // 아직 집계되지 않은 행은 보존 기간이 지나도 지우지 않습니다.
+        LocalDateTime horizon = LocalDateTime.now().minusDays(retentionDays);
+        LocalDateTime rolledUpTo = lastHour.plusHours(1);
+        Timestamp cutoff = Timestamp.valueOf(horizon.isBefore(rolledUpTo) ? horizon : rolledUpTo);
+
+        int purged = 0;
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "select id from access_log where timestamp < ? limit ?",
+                    Long.class,
+                    cutoff,
+                    purgeBatchSize
+            );
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            purged += namedParameterJdbcTemplate.update("delete from access_log where id in (:ids)", Map.of("ids", ids));
+            if (ids.size() < purgeBatchSize) {
+                break;
+            }
+            pause();
+        }
+        return purged;
+    }
+
+    private LocalDateTime nextHourToRollUp() {
+        LocalDateTime lastHour = accessLogRollupRepository.findLastBucketStart(HOUR);
+        if (lastHour != null) {
+            return lastHour.plusHours(1);
+        }
+
+        Timestamp first = jdbcTemplate.queryForObject("select min(timestamp) from access_log", Timestamp.class);
+        return first != null ? first.toLocalDateTime().truncatedTo(ChronoUnit.HOURS) : null;
+    }
+
+    // 원본을 한 번 훑으면서 시간 버킷별 TOTAL/TYPE/MEMBER/IP 건수를 셉니다.
+    private void rollUpHours(LocalDateTime from, LocalDateTime to) {
+        Map<RollupKey, Long> counts = new HashMap<>();
+        // 로그가 없는 시간대도 TOTAL=0 행을 남겨 워터마크가 앞으로 진행되게 합니다.
+        for (LocalDateTime hour = from; hour.isBefore(to); hour = hour.plusHours(1)) {
+            counts.put(new RollupKey(hour, "TOTAL", ""), 0L);
+        }
+
+        jdbcTemplate.query(
+                "select type, student_id, ip, timestamp from access_log where timestamp >= ? and timestamp < ?",
+                rs -> {
+                    LocalDateTime hour = rs.getTimestamp("timestamp").toLocalDateTime().truncatedTo(ChronoUnit.HOURS);
+                    counts.merge(new RollupKey(hour, "TOTAL", ""), 1L, Long::sum);
+                    count(counts, hour, "TYPE", rs.getString("type"));
+                    count(counts, hour, "MEMBER", rs.getString("student_id"));
+                    count(counts, hour, "IP", rs.getString("ip"));
+                },
+                Timestamp.valueOf(from),
+                Timestamp.valueOf(to)
+        );
+
+        upsert(HOUR, counts);
+    }
+
+    // 일 단위는 해당 날짜의 시간 집계를 합쳐서 다시 계산 (같은 날을 여러 번 돌려도 결과 동일)
+    private void rollUpDays(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime dayStart = from.truncatedTo(ChronoUnit.DAYS);
+        for (LocalDateTime day = dayStart; day.isBefore(to); day = day.plusDays(1)) {
+            Map<RollupKey, Long> counts = new HashMap<>();
+            LocalDateTime bucket = day;
+            jdbcTemplate.query(
+                    """
+                    select dimension, dimension_value, sum(event_count) as total
+                    from access_log_rollup
+                    where granularity = ? and bucket_start >= ? and bucket_start < ?
+                    group by dimension, dimension_value
+                    """,
+                    rs -> {
+                        counts.put(new RollupKey(bucket, rs.getString("dimension"), rs.getString("dimension_value")), rs.getLong("total"));
+                    },
+                    HOUR,
+                    Timestamp.valueOf(day),
+                    Timestamp.valueOf(day.plusDays(1))
+            );
+            upsert(DAY, counts);
+        }
+    }
+
+    private void count(Map<RollupKey, Long> counts, LocalDateTime hour, String dimension, String value) {
+        if (StringUtils.hasText(value)) {
+            counts.merge(new RollupKey(hour, dimension, value), 1L, Long::sum);
+        }
+    }
+
+    private void upsert(String granularity, Map<RollupKey, Long> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> args.add(new Object[]{
+                granularity,
+                Timestamp.valueOf(key.bucketStart()),
+                key.dimension(),
+                key.value(),
+                count
+        }));
+        jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+    }
+
+    private void pause() {
+        if (purgePauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(purgePauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
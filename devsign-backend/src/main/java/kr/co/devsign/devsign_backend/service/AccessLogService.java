@@ -1,55 +1,168 @@
 package kr.co.devsign.devsign_backend.service;
 
-import kr.co.devsign.devsign_backend.entity.AccessLog;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.co.devsign.devsign_backend.dto.admin.AccessLogMetricsResponse;
 import kr.co.devsign.devsign_backend.entity.Member;
-import kr.co.devsign.devsign_backend.repository.AccessLogRepository;
-import kr.co.devsign.devsign_backend.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+// ✨ 접근 로그 비동기 기록
+// 요청 스레드는 메모리 큐에 넣기만 하고, 백그라운드 writer가 모아서 JDBC 배치 INSERT로 저장합니다.
+// 큐가 가득 차면 잠깐 기다린 뒤(backpressure) 그래도 자리가 없으면 버리고 drop 수를 셉니다.
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AccessLogService {
 
-    private final MemberRepository memberRepository;
-    private final AccessLogRepository accessLogRepository;
+    private static final String INSERT_SQL =
+            "insert into access_log (name, student_id, type, ip, timestamp) values (?, ?, ?, ?, ?)";
+
+    private final MemberProfileCache memberProfileCache;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.access-log.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.access-log.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.access-log.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${app.access-log.offer-timeout-ms:5}")
+    private long offerTimeoutMs;
+
+    private record PendingLog(String name, String studentId, String type, String ip, LocalDateTime timestamp) {}
+
+    private BlockingQueue<PendingLog> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong overflowed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::drainLoop, "access-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // 종료 시 writer를 멈추고 큐에 남은 로그를 모두 기록합니다.
+    @PreDestroy
+    void stop() throws InterruptedException {
+        // 기록 중인 배치가 끊기지 않도록 interrupt 대신 poll 타임아웃으로 루프를 빠져나오게 합니다.
+        running = false;
+        writer.join(flushIntervalMs + TimeUnit.SECONDS.toMillis(10));
+
+        List<PendingLog> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
 
     public void logByLoginId(String loginId, String type, String ip) {
         if (loginId == null || loginId.isBlank()) return;
 
-        memberRepository.findByLoginId(loginId).ifPresent(member -> {
-            AccessLog log = new AccessLog();
-            log.setName(member.getName());
-            log.setStudentId(member.getStudentId());
-            log.setType(type);
-            log.setIp(ip);
-            log.setTimestamp(LocalDateTime.now());
-            accessLogRepository.save(log);
-        });
+        memberProfileCache.get(loginId)
+                .ifPresent(member -> enqueue(member.name(), member.studentId(), type, ip));
     }
 
     public void logByMember(Member member, String type, String ip) {
         if (member == null) return;
 
-        AccessLog log = new AccessLog();
-        log.setName(member.getName());
-        log.setStudentId(member.getStudentId());
-        log.setType(type);
-        log.setIp(ip);
-        log.setTimestamp(LocalDateTime.now());
-        accessLogRepository.save(log);
+        enqueue(member.getName(), member.getStudentId(), type, ip);
     }
 
     public void logRaw(String name, String studentId, String type, String ip) {
-        AccessLog log = new AccessLog();
-        log.setName(name);
-        log.setStudentId(studentId);
-        log.setType(type);
-        log.setIp(ip);
-        log.setTimestamp(LocalDateTime.now());
-        accessLogRepository.save(log);
+        enqueue(name, studentId, type, ip);
     }
-}
 
+    public AccessLogMetricsResponse getMetrics() {
+        return new AccessLogMetricsResponse(
+                enqueued.get(),
+                written.get(),
+                dropped.get(),
+                overflowed.get(),
+                failed.get(),
+                queue.size(),
+                queueCapacity
+        );
+    }
+
+    private void enqueue(String name, String studentId, String type, String ip) {
+        PendingLog pending = new PendingLog(name, studentId, type, ip, LocalDateTime.now());
+
+        if (queue.offer(pending)) {
+            enqueued.incrementAndGet();
+            return;
+        }
+
+        // 큐가 가득 참: writer가 비울 시간을 잠깐 주고, 그래도 안 되면 요청을 막지 않고 버립니다.
+        overflowed.incrementAndGet();
+        try {
+            if (queue.offer(pending, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                enqueued.incrementAndGet();
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dropped.incrementAndGet();
+    }
+
+    private void drainLoop() {
+        List<PendingLog> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingLog first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingLog> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, pending) -> {
+                ps.setString(1, pending.name());
+                ps.setString(2, pending.studentId());
+                ps.setString(3, pending.type());
+                ps.setString(4, pending.ip());
+                ps.setTimestamp(5, Timestamp.valueOf(pending.timestamp()));
+            });
+            written.addAndGet(batch.size());
+        } catch (Exception e) {
+            failed.addAndGet(batch.size());
+            log.warn("access log batch insert failed ({} rows): {}", batch.size(), e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,13 @@
 package kr.co.devsign.devsign_backend.service;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
+import kr.co.devsign.devsign_backend.dto.admin.AccessLogFilter;
+import kr.co.devsign.devsign_backend.dto.admin.AccessLogMetricsResponse;
+import kr.co.devsign.devsign_backend.dto.admin.AccessLogPageResponse;
+import kr.co.devsign.devsign_backend.dto.admin.AccessLogRetentionResponse;
+import kr.co.devsign.devsign_backend.dto.admin.AccessLogStatResponse;
 import kr.co.devsign.devsign_backend.dto.admin.AccessLogResponse;
 import kr.co.devsign.devsign_backend.dto.admin.AdminMemberResponse;
 import kr.co.devsign.devsign_backend.dto.admin.AdminPasswordVerifyRequest;
@@ -8,58 +15,62 @@ import kr.co.devsign.devsign_backend.dto.admin.AdminPeriodResponse;
 import kr.co.devsign.devsign_backend.dto.admin.AdminPeriodSaveRequest;
 import kr.co.devsign.devsign_backend.dto.admin.AdminPeriodSubmissionResponse;
 import kr.co.devsign.devsign_backend.dto.admin.AdminPeriodZipRequest;
+import kr.co.devsign.devsign_backend.dto.admin.AssemblyArchiveResponse;
+import kr.co.devsign.devsign_backend.dto.admin.AssemblyProcessingMetricsResponse;
+import kr.co.devsign.devsign_backend.dto.admin.DiscordBotMetricsResponse;
+import kr.co.devsign.devsign_backend.dto.admin.DiscordSyncReport;
 import kr.co.devsign.devsign_backend.dto.admin.HeroSettingsRequest;
 import kr.co.devsign.devsign_backend.dto.admin.HeroSettingsResponse;
+import kr.co.devsign.devsign_backend.dto.admin.MediaMigrationResponse;
 import kr.co.devsign.devsign_backend.dto.admin.RestoreMemberRequest;
+import kr.co.devsign.devsign_backend.dto.admin.SubmittedReportRow;
 import kr.co.devsign.devsign_backend.dto.admin.SyncDiscordResponse;
 import kr.co.devsign.devsign_backend.dto.common.StatusResponse;
+import kr.co.devsign.devsign_backend.dto.member.MemberSuspensionState;
 import kr.co.devsign.devsign_backend.entity.AssemblyPeriod;
-import kr.co.devsign.devsign_backend.entity.AssemblyReport;
 import kr.co.devsign.devsign_backend.entity.Member;
-import kr.co.devsign.devsign_backend.repository.AccessLogRepository;
 import kr.co.devsign.devsign_backend.repository.AssemblyPeriodRepository;
 import kr.co.devsign.devsign_backend.repository.AssemblyReportRepository;
 import kr.co.devsign.devsign_backend.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import java.io.*;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 @Service
 @RequiredArgsConstructor
 public class AdminService {
 
-    private static final int[] ACTIVE_MONTHS = new int[]{3, 4, 5, 6, 9, 10, 11, 12};
     private static final String SUBMITTED = "SUBMITTED";
 
     private final MemberRepository memberRepository;
-    private final AccessLogRepository accessLogRepository;
     private final AssemblyPeriodRepository assemblyPeriodRepository;
     private final AssemblyReportRepository assemblyReportRepository;
     private final AccessLogService accessLogService;
     private final DiscordBotClient discordBotClient;
-    private final BCryptPasswordEncoder passwordEncoder;
-    @Value("${app.upload.base-dir:uploads}")
-    private String uploadBaseDir;
+    private final PasswordHashingService passwordHashingService;
+    private final MediaStorageService mediaStorageService;
+    private final MediaMigrationService mediaMigrationService;
+    private final MemberProfileCache memberProfileCache;
+    private final SuspendedMemberRegistry suspendedMemberRegistry;
+    private final AccessLogQueryService accessLogQueryService;
+    private final AccessLogRetentionService accessLogRetentionService;
+    private final AssemblyArchiveService assemblyArchiveService;
+    private final AssemblyProcessingService assemblyProcessingService;
+    private final PeriodDashboardCache periodDashboardCache;
+    private final DiscordMemberEventService discordMemberEventService;
+
+    @Value("${app.access-log.legacy-limit:1000}")
+    private int legacyLogLimit;
 
     private static final Map<String, String> heroSettings = new ConcurrentHashMap<>();
 
@@ -80,17 +91,41 @@ public class AdminService {
                 .toList();
     }
 
+    public AccessLogMetricsResponse getAccessLogMetrics() {
+        return accessLogService.getMetrics();
+    }
+
+    public AssemblyProcessingMetricsResponse getAssemblyProcessingMetrics() {
+        return assemblyProcessingService.getMetrics();
+    }
+
+    public DiscordBotMetricsResponse getDiscordBotMetrics() {
+        return discordBotClient.getMetrics();
+    }
+
+    // 기존 관리자 화면용 전체 목록: 최근 legacyLimit건까지만 반환 (전체는 검색/내보내기 사용)
     public List<AccessLogResponse> getAllLogs() {
-        return accessLogRepository.findAllByOrderByTimestampDesc().stream()
-                .map(log -> new AccessLogResponse(
-                        log.getId(),
-                        log.getName(),
-                        log.getStudentId(),
-                        log.getType(),
-                        log.getIp(),
-                        log.getTimestamp()
-                ))
-                .toList();
+        return accessLogQueryService.recent(AccessLogFilter.none(), legacyLogLimit);
+    }
+
+    public AccessLogPageResponse searchLogs(AccessLogFilter filter, String cursor, Integer size) {
+        return accessLogQueryService.search(filter, cursor, size);
+    }
+
+    public void exportLogs(AccessLogFilter filter, String format, Writer writer) throws IOException {
+        accessLogQueryService.export(filter, format, writer);
+    }
+
+    public List<AccessLogStatResponse> getLogStats(String granularity, String dimension, LocalDateTime from, LocalDateTime to) {
+        return accessLogRetentionService.getStats(granularity, dimension, from, to);
+    }
+
+    public AccessLogRetentionResponse runLogRetention() {
+        try {
+            return accessLogRetentionService.run();
+        } catch (Exception e) {
+            return new AccessLogRetentionResponse("error", "rollup failed: " + e.getMessage(), 0, 0);
+        }
     }
 
     public HeroSettingsResponse getHeroSettings() {
@@ -103,46 +138,9 @@ public class AdminService {
         return StatusResponse.success();
     }
 
+    // 기간 설정 + 월별 제출 수는 캐시된 대시보드에서 가져옵니다. (미스일 때만 집계 쿼리 실행)
     public List<AdminPeriodResponse> getPeriods(int year) {
-        List<AssemblyPeriod> savedPeriods = assemblyPeriodRepository.findByYearOrderByMonthAsc(year);
-        Map<Integer, AssemblyPeriod> periodByMonth = savedPeriods.stream()
-                .collect(java.util.stream.Collectors.toMap(AssemblyPeriod::getMonth, p -> p, (a, b) -> a));
-
-        long totalCount = memberRepository.countByDeletedFalse();
-
-        return java.util.Arrays.stream(ACTIVE_MONTHS)
-                .mapToObj(month -> {
-                    int semester = month <= 6 ? 1 : 2;
-                    AssemblyPeriod period = periodByMonth.get(month);
-
-                    String type = period != null && StringUtils.hasText(period.getType())
-                            ? period.getType()
-                            : resolveType(month);
-
-                    LocalDate startDate = period != null && period.getStartDate() != null
-                            ? period.getStartDate()
-                            : LocalDate.of(year, month, 1);
-
-                    LocalDate endDate = period != null && period.getEndDate() != null
-                            ? period.getEndDate()
-                            : LocalDate.of(year, month, 28);
-
-                    long submittedCount = assemblyReportRepository
-                            .countByYearAndSemesterAndMonthAndStatus(year, semester, month, SUBMITTED);
-
-                    return new AdminPeriodResponse(
-                            period != null ? period.getId() : null,
-                            month,
-                            year,
-                            semester,
-                            type,
-                            startDate.toString(),
-                            endDate.toString(),
-                            submittedCount,
-                            totalCount
-                    );
-                })
-                .toList();
+        return periodDashboardCache.get(year);
     }
 
     @Transactional
@@ -178,6 +176,7 @@ public class AdminService {
                 period.setEndDate(endDate);
                 assemblyPeriodRepository.save(period);
             }
+            periodDashboardCache.invalidateAll();
             return StatusResponse.success();
         } catch (Exception e) {
             return StatusResponse.fail("save periods failed: " + e.getMessage());
@@ -185,129 +184,87 @@ public class AdminService {
     }
 
     public List<AdminPeriodSubmissionResponse> getSubmittedMembers(int year, int semester, int month) {
-        List<AssemblyReport> reports = assemblyReportRepository
-                .findByYearAndSemesterAndMonthAndStatusOrderByIdDesc(year, semester, month, SUBMITTED);
-
-        return reports.stream()
-                .map(report -> {
-                    Optional<Member> member = memberRepository.findByLoginId(report.getLoginId());
-                    String name = member.map(Member::getName).orElse(report.getLoginId());
-                    String studentId = member.map(Member::getStudentId).orElse("");
-                    return new AdminPeriodSubmissionResponse(
-                            report.getLoginId(),
-                            name,
-                            studentId,
-                            report.getDate(),
-                            report.getPresentationPath(),
-                            report.getPdfPath(),
-                            report.getOtherPath(),
-                            report.getMemo()
-                    );
-                })
+        // 보고서와 회원 이름/학번을 한 번에 조회 (행마다 회원을 다시 읽지 않음)
+        return assemblyReportRepository.findSubmittedRows(year, semester, month, SUBMITTED).stream()
+                .map(row -> new AdminPeriodSubmissionResponse(
+                        row.loginId(),
+                        row.name() != null ? row.name() : row.loginId(),
+                        row.studentId() != null ? row.studentId() : "",
+                        row.submitDate(),
+                        row.presentationPath(),
+                        row.pdfPath(),
+                        row.otherPath(),
+                        row.memo(),
+                        row.presentationHash(),
+                        row.presentationPages(),
+                        row.pdfHash(),
+                        row.pdfPages(),
+                        row.otherHash(),
+                        isProcessed(row)
+                ))
                 .toList();
     }
 
-    public ResponseEntity<byte[]> downloadPeriodZip(AdminPeriodZipRequest request) {
+    // ✨ ZIP 생성/캐시는 AssemblyArchiveService가 담당 (병렬 읽기 + 디스크 캐시)
+    public void streamPeriodZip(
+            AdminPeriodZipRequest request,
+            HttpServletRequest httpRequest,
+            HttpServletResponse response
+    ) throws IOException {
         if (request == null || request.year() == null || request.month() == null
                 || request.userIds() == null || request.userIds().isEmpty()) {
-            return ResponseEntity.badRequest().build();
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return;
         }
 
-        String fileType = normalizeFileType(request.fileType());
-        List<AssemblyReport> reports = assemblyReportRepository.findByLoginIdInAndYearAndMonthAndStatus(
+        assemblyArchiveService.download(
                 request.userIds(),
                 request.year(),
                 request.month(),
-                SUBMITTED
+                request.fileType(),
+                httpRequest,
+                response
         );
+    }
 
-        try (ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-             ZipOutputStream zipOut = new ZipOutputStream(buffer)) {
-
-            for (AssemblyReport report : reports) {
-                boolean includePresentation = "all".equals(fileType) || "ppt".equals(fileType);
-                boolean includePdf = "all".equals(fileType) || "pdf".equals(fileType);
-                boolean includeOther = "all".equals(fileType);
-
-                addFileToZip(
-                        zipOut,
-                        report.getLoginId(),
-                        "presentation",
-                        report.getPresentationPath(),
-                        includePresentation,
-                        Set.of("ppt", "pptx")
-                );
-                addFileToZip(
-                        zipOut,
-                        report.getLoginId(),
-                        "pdf",
-                        report.getPdfPath(),
-                        includePdf,
-                        Set.of("pdf")
-                );
-                addFileToZip(
-                        zipOut,
-                        report.getLoginId(),
-                        "other",
-                        report.getOtherPath(),
-                        includeOther,
-                        Collections.emptySet()
-                );
-            }
-
-            zipOut.finish();
-
-            String fileName = String.format("assembly_%d_%02d_%s.zip", request.year(), request.month(), fileType);
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
-                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                    .body(buffer.toByteArray());
-        } catch (IOException e) {
-            return ResponseEntity.internalServerError().build();
-        }
+    public AssemblyArchiveResponse prebuildPeriodArchive(int year, int semester, int month) {
+        return assemblyArchiveService.prebuild(year, semester, month);
     }
 
     public SyncDiscordResponse syncDiscord() {
         try {
-            Map<String, Object> botRes = discordBotClient.syncAllMembers();
-
-            if (botRes != null && "success".equals(botRes.get("status"))) {
-                List<Map<String, String>> discordMembers =
-                        (List<Map<String, String>>) botRes.get("members");
-
-                int updateCount = 0;
-
-                for (Map<String, String> d : discordMembers) {
-                    String tag = d.get("discordTag");
-
-                    Optional<Member> opt = memberRepository.findByDiscordTag(tag);
-                    if (opt.isPresent()) {
-                        Member m = opt.get();
-                        m.setName(d.get("name"));
-                        m.setStudentId(d.get("studentId"));
-                        m.setUserStatus(d.get("userStatus"));
-                        m.setRole(d.get("role"));
-                        m.setProfileImage(d.get("avatarUrl"));
-                        memberRepository.save(m);
-                        updateCount++;
-                    }
-                }
-
-                return new SyncDiscordResponse("success", updateCount + " members synchronized");
+            // ✨ 전체 목록 비교는 재조정용으로만 남기고, 평소 변경은 봇 이벤트로 반영됩니다.
+            DiscordSyncReport report = discordMemberEventService.reconcile();
+            if (report != null) {
+                return new SyncDiscordResponse(
+                        "success",
+                        report.changed() + " changed, " + report.unchanged() + " unchanged, "
+                                + report.unmatched() + " unmatched",
+                        report
+                );
             }
 
-            return new SyncDiscordResponse("fail", "failed to receive data from bot server");
+            return new SyncDiscordResponse("fail", "failed to receive data from bot server", null);
 
         } catch (Exception e) {
-            return new SyncDiscordResponse("error", "sync error: " + e.getMessage());
+            return new SyncDiscordResponse("error", "sync error: " + e.getMessage(), null);
         }
     }
 
+    public MediaMigrationResponse migrateInlineImages() {
+        return mediaMigrationService.migrateInlineImages();
+    }
+
     public StatusResponse toggleSuspension(Long id, String ip) {
         return memberRepository.findById(id)
                 .map(m -> {
                     m.setSuspended(!m.isSuspended());
+                    if (m.isSuspended()) {
+                        // 정지 시점 이전에 발급된 토큰은 버전 검사에서 거부됨
+                        m.setTokenVersion(m.getTokenVersion() + 1);
+                    }
                     memberRepository.save(m);
+                    suspendedMemberRegistry.update(toSuspensionState(m));
 
                     accessLogService.logByMember(
                             m,
@@ -340,6 +297,9 @@ public class AdminService {
             member.setDeleted(false);
             member.setDeletedAt(null);
             memberRepository.save(member);
+            memberProfileCache.invalidate(member.getLoginId());
+            suspendedMemberRegistry.update(toSuspensionState(member));
+            periodDashboardCache.invalidateAll();
 
             accessLogService.logByMember(member, "ACCOUNT_RESTORE", ip);
             return StatusResponse.success();
@@ -360,11 +320,15 @@ public class AdminService {
 
                     if (hard) {
                         memberRepository.deleteById(id);
+                        suspendedMemberRegistry.remove(m.getLoginId());
                     } else {
                         m.setDeleted(true);
                         m.setDeletedAt(LocalDateTime.now());
                         memberRepository.save(m);
+                        suspendedMemberRegistry.update(toSuspensionState(m));
                     }
+                    memberProfileCache.invalidate(m.getLoginId());
+                    periodDashboardCache.invalidateAll();
                     return StatusResponse.success();
                 })
                 .orElseGet(() -> StatusResponse.fail("member not found"));
@@ -379,10 +343,16 @@ public class AdminService {
         }
 
         String loginId = authentication.getName();
+        passwordHashingService.checkRateLimit(null, loginId);
         return memberRepository.findByLoginId(loginId)
-                .map(member -> passwordEncoder.matches(request.password(), member.getPassword())
-                        ? StatusResponse.success()
-                        : StatusResponse.fail("password mismatch"))
+                .map(member -> {
+                    if (!passwordHashingService.matches(request.password(), member.getPassword())) {
+                        passwordHashingService.recordFailure(loginId);
+                        return StatusResponse.fail("password mismatch");
+                    }
+                    passwordHashingService.recordSuccess(loginId);
+                    return StatusResponse.success();
+                })
                 .orElseGet(() -> StatusResponse.fail("member not found"));
     }
 
@@ -396,118 +366,15 @@ public class AdminService {
         return "PROGRESS";
     }
 
-    private String normalizeFileType(String fileType) {
-        if (!StringUtils.hasText(fileType)) {
-            return "all";
-        }
-        String normalized = fileType.trim().toLowerCase();
-        if (!normalized.equals("all") && !normalized.equals("ppt") && !normalized.equals("pdf")) {
-            return "all";
-        }
-        return normalized;
-    }
-
-    private void addFileToZip(
-            ZipOutputStream zipOut,
-            String loginId,
-            String type,
-            String originalPath,
-            boolean include,
-            Set<String> allowedExtensions
-    ) throws IOException {
-        if (!include || !StringUtils.hasText(originalPath)) {
-            return;
-        }
-
-        File file = resolveFile(originalPath);
-        if (file == null || !file.exists() || !file.isFile()) {
-            return;
-        }
-
-        if (allowedExtensions != null && !allowedExtensions.isEmpty()) {
-            String extension = getExtension(file.getName());
-            if (!allowedExtensions.contains(extension)) {
-                return;
-            }
-        }
-
-        String entryName = loginId + "/" + type + "_" + file.getName();
-        zipOut.putNextEntry(new ZipEntry(entryName));
-        try (BufferedInputStream in = new BufferedInputStream(new FileInputStream(file))) {
-            in.transferTo(zipOut);
-        }
-        zipOut.closeEntry();
-    }
-
-    private File resolveFile(String path) {
-        if (!StringUtils.hasText(path)) {
-            return null;
-        }
-
-        Path uploadBasePath = getUploadBasePath();
-        Path resolvedPath = resolveUploadPath(path, uploadBasePath);
-
-        if (resolvedPath == null || !isAllowedUploadPath(resolvedPath, uploadBasePath)) {
-            return null;
-        }
-        return resolvedPath.toFile();
-    }
-
-    private String getExtension(String fileName) {
-        if (!StringUtils.hasText(fileName)) {
-            return "";
-        }
-        int dot = fileName.lastIndexOf('.');
-        if (dot < 0 || dot == fileName.length() - 1) {
-            return "";
-        }
-        return fileName.substring(dot + 1).toLowerCase();
-    }
-
-    private Path getUploadBasePath() {
-        Path configured = Paths.get(uploadBaseDir);
-        if (!configured.isAbsolute()) {
-            configured = Paths.get(System.getProperty("user.dir")).resolve(configured);
-        }
-        return configured.toAbsolutePath().normalize();
+    // 첨부된 모든 파일의 후처리(hash 계산)가 끝났는지
+    private boolean isProcessed(SubmittedReportRow row) {
+        return (!StringUtils.hasText(row.presentationPath()) || row.presentationHash() != null)
+                && (!StringUtils.hasText(row.pdfPath()) || row.pdfHash() != null)
+                && (!StringUtils.hasText(row.otherPath()) || row.otherHash() != null);
     }
 
-    private Path resolveUploadPath(String rawPath, Path uploadBasePath) {
-        String normalized = rawPath.replace("\\", "/").trim();
-        if (!StringUtils.hasText(normalized)) {
-            return null;
-        }
-
-        if (normalized.startsWith("/uploads/") || normalized.startsWith("uploads/")) {
-            String relative = normalized.replaceFirst("^/?uploads/", "");
-            return uploadBasePath.resolve(relative).normalize();
-        }
-
-        Path requested = Paths.get(rawPath);
-        if (requested.isAbsolute()) {
-            return requested.toAbsolutePath().normalize();
-        }
-
-        return uploadBasePath.resolve(requested).normalize();
-    }
-
-    private boolean isAllowedUploadPath(Path resolvedPath, Path uploadBasePath) {
-        if (resolvedPath.startsWith(uploadBasePath)) {
-            return true;
-        }
-
-        Path currentUploadsBase = Paths.get(System.getProperty("user.dir"), "uploads").toAbsolutePath().normalize();
-        if (resolvedPath.startsWith(currentUploadsBase)) {
-            return true;
-        }
-
-        Path userDir = Paths.get(System.getProperty("user.dir")).toAbsolutePath().normalize();
-        if (userDir.getParent() != null) {
-            Path parentUploadsBase = userDir.getParent().resolve("uploads").toAbsolutePath().normalize();
-            return resolvedPath.startsWith(parentUploadsBase);
-        }
-
-        return false;
+    private MemberSuspensionState toSuspensionState(Member member) {
+        return new MemberSuspensionState(member.getLoginId(), member.isSuspended(), member.getTokenVersion());
     }
 
     private AdminMemberResponse toAdminMemberResponse(Member member) {
@@ -522,7 +389,7 @@ public class AdminService {
                 member.getUserStatus(),
                 member.getRole(),
                 member.isSuspended(),
-                member.getProfileImage(),
+                mediaStorageService.toUrl(member.getProfileImage()),
                 member.getDeletedAt() == null ? null : member.getDeletedAt().toString()
         );
     }
@@ -0,0 +1,576 @@
+package kr.co.devsign.devsign_backend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.co.devsign.devsign_backend.dto.admin.AssemblyArchiveResponse;
+import kr.co.devsign.devsign_backend.entity.AssemblyPeriod;
+import kr.co.devsign.devsign_backend.entity.AssemblyReport;
+import kr.co.devsign.devsign_backend.repository.AssemblyPeriodRepository;
+import kr.co.devsign.devsign_backend.repository.AssemblyReportRepository;
+import kr.co.devsign.devsign_backend.service.AssemblyFileStore.StoredFile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+// ✨ 어셈블리 제출물 ZIP 생성/캐시
+// 1) 파일 읽기(CRC 계산)는 제한된 스레드 풀에서 병렬로, ZIP 엔트리 쓰기는 순서대로 진행합니다.
+// 2) 결과는 업로드 폴더 아래 archives/에 "보고서 id + 파일 경로/크기/수정시각" 해시를 이름으로 저장합니다.
+//    파일이 바뀌면 키가 달라지므로 별도 무효화 없이 새로 만들어집니다.
+// 3) 캐시된 ZIP은 Tomcat sendfile 또는 FileChannel.transferTo로 복사 없이 내려보냅니다.
+//    캐시가 없으면 기다리지 않고 바로 스트리밍하며, 기간 전체 선택일 때만 백그라운드에서 캐시를 만듭니다.
+// 4) 종료일이 지난 기간은 스케줄러가 미리 만들어 둡니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssemblyArchiveService {
+
+    private static final String SUBMITTED = "SUBMITTED";
+    private static final int ZIP_BUFFER_SIZE = 64 * 1024;
+    private static final String ARCHIVE_DIR = "archives";
+    private static final String ARCHIVE_SUFFIX = ".zip";
+
+    // ZIP 내보내기 시 재압축하지 않는 확장자
+    private static final Set<String> STORED_EXTENSIONS = Set.of(
+            "pptx", "docx", "xlsx", "hwpx", "pdf", "zip", "7z", "gz", "rar",
+            "jpg", "jpeg", "png", "gif", "webp", "mp4", "mov", "mp3"
+    );
+
+    // Tomcat NIO 커넥터의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 압축 대상 파일 한 개 (경로 해석/필터링이 끝난 상태)
+    private record ArchiveSource(long reportId, String entryName, Path path, long size, long lastModified) {}
+
+    // CRC가 계산된 엔트리 (DEFLATED는 crc = -1)
+    private record PreparedEntry(ArchiveSource source, boolean stored, long crc) {}
+
+    private final AssemblyReportRepository assemblyReportRepository;
+    private final AssemblyPeriodRepository assemblyPeriodRepository;
+    private final AssemblyFileStore assemblyFileStore;
+
+    @Value("${app.upload.base-dir:uploads}")
+    private String uploadBaseDir;
+
+    @Value("${app.assembly.archive.threads:4}")
+    private int threads;
+
+    @Value("${app.assembly.archive.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${app.assembly.archive.cache-enabled:true}")
+    private boolean cacheEnabled;
+
+    // 마지막으로 내려받은 뒤 이 기간이 지난 캐시 ZIP은 삭제
+    @Value("${app.assembly.archive.cache-ttl-hours:168}")
+    private long cacheTtlHours;
+
+    // 종료일로부터 이 기간 안의 기간만 미리 생성
+    @Value("${app.assembly.archive.prebuild-window-days:14}")
+    private int prebuildWindowDays;
+
+    private ThreadPoolExecutor executor;
+    // 다운로드 중 캐시가 없을 때의 백그라운드 빌드 (한 번에 하나, 밀리면 버림 → 스케줄러가 다시 만듦)
+    private ThreadPoolExecutor backgroundBuilder;
+    // 같은 키를 동시에 만들지 않도록 진행 중인 빌드를 공유
+    private final Map<String, CompletableFuture<Path>> building = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "assembly-archive-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // 큐가 가득 차면 요청 스레드가 직접 계산 (읽기 동시성은 threads + 1로 제한됨)
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        backgroundBuilder = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "assembly-archive-builder");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy()
+        );
+    }
+
+    @PreDestroy
+    void stop() {
+        backgroundBuilder.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    // 관리자 다운로드: 미리 만든 캐시가 있으면 그대로, 없으면 바로 ZIP을 스트리밍합니다.
+    // 일부 회원만 고른 선택은 다시 쓰일 일이 드물어 캐시하지 않습니다.
+    public void download(
+            List<String> userIds,
+            int year,
+            int month,
+            String fileType,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        String normalizedType = normalizeFileType(fileType);
+        List<AssemblyReport> reports = assemblyReportRepository.findByLoginIdInAndYearAndMonthAndStatus(
+                userIds,
+                year,
+                month,
+                SUBMITTED
+        );
+        List<ArchiveSource> sources = collectSources(reports, normalizedType);
+
+        String fileName = String.format("assembly_%d_%02d_%s.zip", year, month, normalizedType);
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+
+        Path cached = null;
+        if (cacheEnabled) {
+            cached = findCached(sources);
+            if (cached == null && isWholePeriod(reports, sources, normalizedType, year, month)) {
+                scheduleBuild(sources, fileName);
+            }
+        }
+
+        try {
+            if (cached != null) {
+                sendCached(cached, request, response);
+            } else {
+                OutputStream out = new BufferedOutputStream(response.getOutputStream(), ZIP_BUFFER_SIZE);
+                writeZip(sources, out);
+                out.flush();
+            }
+        } catch (IOException e) {
+            // 클라이언트가 다운로드를 취소하면 응답 쓰기에서 IOException이 발생 → 남은 파일은 읽지 않고 중단
+            log.info("assembly zip export aborted ({}): {}", fileName, e.getMessage());
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+        }
+    }
+
+    // 한 기간의 전체 제출물(all) ZIP을 미리 만들어 둡니다. 관리자가 전원 선택 후 내려받으면 이 캐시를 사용합니다.
+    public AssemblyArchiveResponse prebuild(int year, int semester, int month) {
+        if (!cacheEnabled) {
+            return new AssemblyArchiveResponse("fail", "archive cache is disabled", 0, 0L, false);
+        }
+
+        List<AssemblyReport> reports = assemblyReportRepository
+                .findByYearAndSemesterAndMonthAndStatusOrderByIdDesc(year, semester, month, SUBMITTED);
+        if (reports.isEmpty()) {
+            return new AssemblyArchiveResponse("fail", "no submitted reports", 0, 0L, false);
+        }
+
+        List<ArchiveSource> sources = collectSources(reports, "all");
+        try {
+            boolean existed = Files.isRegularFile(cachePath(cacheKey(sources)));
+            Path archive = getOrBuild(sources);
+            return new AssemblyArchiveResponse("success", null, sources.size(), Files.size(archive), existed);
+        } catch (IOException e) {
+            return new AssemblyArchiveResponse("error", "archive build failed: " + e.getMessage(), sources.size(), 0L, false);
+        }
+    }
+
+    // 종료일이 지난 최근 기간을 미리 생성하고, 오래 쓰이지 않은 캐시를 정리합니다.
+    @Scheduled(
+            fixedDelayString = "${app.assembly.archive.prebuild-interval-ms:3600000}",
+            initialDelayString = "${app.assembly.archive.prebuild-initial-delay-ms:60000}"
+    )
+    public void prebuildEndedPeriods() {
+        if (!cacheEnabled) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        List<AssemblyPeriod> periods = assemblyPeriodRepository
+                .findByEndDateBetween(today.minusDays(prebuildWindowDays), today.minusDays(1));
+        for (AssemblyPeriod period : periods) {
+            try {
+                AssemblyArchiveResponse result = prebuild(period.getYear(), period.getSemester(), period.getMonth());
+                if ("success".equals(result.status()) && !Boolean.TRUE.equals(result.cached())) {
+                    log.info("assembly archive prebuilt: {}-{}-{} ({} files, {} bytes)",
+                            period.getYear(), period.getSemester(), period.getMonth(), result.entries(), result.sizeBytes());
+                }
+            } catch (Exception e) {
+                log.warn("assembly archive prebuild failed: {}-{}-{}: {}",
+                        period.getYear(), period.getSemester(), period.getMonth(), e.getMessage());
+            }
+        }
+
+        evictExpired();
+    }
+
+    private Path findCached(List<ArchiveSource> sources) {
+        Path target = cachePath(cacheKey(sources));
+        if (!Files.isRegularFile(target)) {
+            return null;
+        }
+        touch(target);
+        return target;
+    }
+
+    // prebuild와 같은 키가 나오는 선택(해당 기간 제출물 전체, all)인지 확인
+    private boolean isWholePeriod(List<AssemblyReport> reports, List<ArchiveSource> sources, String fileType, int year, int month) {
+        if (!"all".equals(fileType) || sources.isEmpty()) {
+            return false;
+        }
+        int semester = reports.get(0).getSemester();
+        if (reports.stream().anyMatch(report -> report.getSemester() != semester)) {
+            return false;
+        }
+        return reports.size() == assemblyReportRepository.countByYearAndSemesterAndMonthAndStatus(year, semester, month, SUBMITTED);
+    }
+
+    private void scheduleBuild(List<ArchiveSource> sources, String fileName) {
+        backgroundBuilder.execute(() -> {
+            try {
+                getOrBuild(sources);
+            } catch (Exception e) {
+                log.warn("assembly archive background build failed ({}): {}", fileName, e.getMessage());
+            }
+        });
+    }
+
+    private Path getOrBuild(List<ArchiveSource> sources) throws IOException {
+        String key = cacheKey(sources);
+        Path target = cachePath(key);
+        if (Files.isRegularFile(target)) {
+            touch(target);
+            return target;
+        }
+
+        CompletableFuture<Path> mine = new CompletableFuture<>();
+        CompletableFuture<Path> existing = building.putIfAbsent(key, mine);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            buildInto(sources, target);
+            mine.complete(target);
+            return target;
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            building.remove(key, mine);
+        }
+    }
+
+    // 같은 폴더의 임시 파일에 쓴 뒤 원자적으로 이름을 바꿔, 반쯤 쓰인 ZIP이 캐시로 보이지 않게 합니다.
+    private void buildInto(List<ArchiveSource> sources, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp), ZIP_BUFFER_SIZE)) {
+                writeZip(sources, out);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // CRC 계산(파일 전체 읽기)은 모두 먼저 스레드 풀에 맡기고, 순서대로 결과를 받아 엔트리를 씁니다.
+    // 앞 파일을 쓰는 동안 뒤 파일들의 읽기가 병렬로 진행됩니다.
+    private void writeZip(List<ArchiveSource> sources, OutputStream out) throws IOException {
+        List<Future<PreparedEntry>> prepared = new ArrayList<>(sources.size());
+        for (ArchiveSource source : sources) {
+            prepared.add(executor.submit(() -> prepare(source)));
+        }
+
+        ZipOutputStream zipOut = new ZipOutputStream(out);
+        try {
+            for (Future<PreparedEntry> future : prepared) {
+                PreparedEntry entry = await(future);
+                writeEntry(zipOut, entry);
+            }
+            zipOut.finish();
+        } finally {
+            // 중간에 실패하면 아직 대기 중인 읽기는 취소
+            prepared.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private PreparedEntry prepare(ArchiveSource source) throws IOException {
+        // 이미 압축된 형식(pptx/pdf 등)은 다시 deflate해도 줄지 않으므로 STORED로 CPU를 아낍니다.
+        // STORED는 크기와 CRC를 헤더에 먼저 써야 해서 CRC만 한 번 더 읽어 계산합니다.
+        if (STORED_EXTENSIONS.contains(getExtension(source.entryName()))) {
+            return new PreparedEntry(source, true, crc32(source.path()));
+        }
+        return new PreparedEntry(source, false, -1L);
+    }
+
+    private void writeEntry(ZipOutputStream zipOut, PreparedEntry prepared) throws IOException {
+        ArchiveSource source = prepared.source();
+        ZipEntry entry = new ZipEntry(source.entryName());
+        entry.setTime(source.lastModified());
+        if (prepared.stored()) {
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(source.size());
+            entry.setCompressedSize(source.size());
+            entry.setCrc(prepared.crc());
+        }
+
+        zipOut.putNextEntry(entry);
+        Files.copy(source.path(), zipOut);
+        zipOut.closeEntry();
+    }
+
+    private void sendCached(Path archive, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long size = Files.size(archive);
+        response.setContentLengthLong(size);
+
+        // Tomcat이 sendfile을 지원하면 요청 처리 후 커넥터가 커널에서 직접 파일을 보냅니다.
+        if (request != null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, archive.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return;
+        }
+
+        WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+        try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, out);
+            }
+        }
+        response.flushBuffer();
+    }
+
+    private List<ArchiveSource> collectSources(List<AssemblyReport> reports, String fileType) {
+        boolean includePresentation = "all".equals(fileType) || "ppt".equals(fileType);
+        boolean includePdf = "all".equals(fileType) || "pdf".equals(fileType);
+        boolean includeOther = "all".equals(fileType);
+
+        // 키가 조회 순서에 좌우되지 않도록 id 순으로 정렬
+        List<AssemblyReport> ordered = new ArrayList<>(reports);
+        ordered.sort(Comparator.comparing(AssemblyReport::getId));
+
+        List<ArchiveSource> sources = new ArrayList<>();
+        for (AssemblyReport report : ordered) {
+            addSource(sources, report, "presentation", report.getPresentationPath(), includePresentation, Set.of("ppt", "pptx"));
+            addSource(sources, report, "pdf", report.getPdfPath(), includePdf, Set.of("pdf"));
+            addSource(sources, report, "other", report.getOtherPath(), includeOther, Collections.emptySet());
+        }
+        return sources;
+    }
+
+    private void addSource(
+            List<ArchiveSource> sources,
+            AssemblyReport report,
+            String type,
+            String originalPath,
+            boolean include,
+            Set<String> allowedExtensions
+    ) {
+        if (!include || !StringUtils.hasText(originalPath)) {
+            return;
+        }
+
+        // blob 파일은 확장자가 없으므로 확장자와 ZIP 항목 이름은 보고서 경로의 표시 파일명을 씁니다.
+        StoredFile storedFile = assemblyFileStore.resolve(originalPath);
+        if (storedFile == null) {
+            return;
+        }
+
+        Path path = storedFile.path();
+        String fileName = storedFile.fileName();
+        if (!allowedExtensions.isEmpty() && !allowedExtensions.contains(getExtension(fileName))) {
+            return;
+        }
+
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return;
+        }
+        if (!attributes.isRegularFile()) {
+            return;
+        }
+
+        sources.add(new ArchiveSource(
+                report.getId(),
+                report.getLoginId() + "/" + type + "_" + fileName,
+                path,
+                attributes.size(),
+                attributes.lastModifiedTime().toMillis()
+        ));
+    }
+
+    private String cacheKey(List<ArchiveSource> sources) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (ArchiveSource source : sources) {
+                String line = source.reportId() + "|" + source.entryName() + "|" + source.path()
+                        + "|" + source.size() + "|" + source.lastModified() + "\n";
+                digest.update(line.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private Path cachePath(String key) {
+        return getUploadBasePath().resolve(ARCHIVE_DIR).resolve(key + ARCHIVE_SUFFIX);
+    }
+
+    // 캐시 적중 시 수정시각을 갱신해 최근에 쓰인 ZIP이 정리 대상이 되지 않게 합니다.
+    private void touch(Path archive) {
+        try {
+            Files.setLastModifiedTime(archive, FileTime.from(Instant.now()));
+        } catch (IOException ignored) {
+        }
+    }
+
+    private void evictExpired() {
+        Path dir = getUploadBasePath().resolve(ARCHIVE_DIR);
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+
+        Instant threshold = Instant.now().minus(Duration.ofHours(cacheTtlHours));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (!name.endsWith(ARCHIVE_SUFFIX) && !name.endsWith(".tmp")) {
+                    continue;
+                }
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(threshold)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("assembly archive cache cleanup failed: {}", e.getMessage());
+        }
+    }
+
+    private <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while preparing archive", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+
+    private long crc32(Path path) throws IOException {
+        CRC32 crc = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(ZIP_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+            }
+        }
+        return crc.getValue();
+    }
+
+    private String normalizeFileType(String fileType) {
+        if (!StringUtils.hasText(fileType)) {
+            return "all";
+        }
+        String normalized = fileType.trim().toLowerCase();
+        if (!normalized.equals("all") && !normalized.equals("ppt") && !normalized.equals("pdf")) {
+            return "all";
+        }
+        return normalized;
+    }
+
+    private String getExtension(String fileName) {
+        if (!StringUtils.hasText(fileName)) {
+            return "";
+        }
+        int dot = fileName.lastIndexOf('.');
+        if (dot < 0 || dot == fileName.length() - 1) {
+            return "";
+        }
+        return fileName.substring(dot + 1).toLowerCase();
+    }
+
+    private Path getUploadBasePath() {
+        Path configured = Paths.get(uploadBaseDir);
+        if (!configured.isAbsolute()) {
+            configured = Paths.get(System.getProperty("user.dir")).resolve(configured);
+        }
+        return configured.toAbsolutePath().normalize();
+    }
+}
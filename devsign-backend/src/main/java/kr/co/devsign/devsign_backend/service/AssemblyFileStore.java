@@ -0,0 +1,378 @@
+package kr.co.devsign.devsign_backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// ✨ 어셈블리 제출 파일 저장소 (내용 주소 + 원자적 교체)
+// 1) 업로드는 blobs/tmp 임시 파일에 쓰고 fsync한 뒤 blobs/ab/<sha256> 으로 원자적으로 옮깁니다.
+//    같은 내용이 이미 있으면 임시 파일만 지우므로, 동일 재제출은 디스크를 더 쓰지 않습니다.
+// 2) 보고서에는 "blobs/ab/<sha256>/<표시 파일명>" 형태의 논리 경로를 저장합니다.
+//    blob 파일은 한 번 쓰이면 바뀌지 않으므로 다운로드 중에 내용이 덮어써지는 일이 없습니다.
+// 3) stored_blob.ref_count로 참조를 세고, 백그라운드 GC가 참조가 없는 blob을 삭제합니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssemblyFileStore {
+
+    public static final String BLOB_PREFIX = "blobs/";
+
+    private static final String BLOB_DIR = "blobs";
+    private static final String TEMP_DIR = "tmp";
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+    private static final Pattern BLOB_PATH = Pattern.compile("^blobs/([0-9a-f]{2})/([0-9a-f]{64})/([^/]+)$");
+
+    private static final String ACQUIRE_SQL = """
+            insert into stored_blob (hash, byte_size, ref_count, created_at, updated_at)
+            values (?, ?, 1, ?, ?)
+            on duplicate key update ref_count = ref_count + 1, updated_at = values(updated_at)
+            """;
+
+    // 보고서 경로에서 해석한 실제 파일 (hash는 blob일 때만)
+    public record StoredFile(Path path, String fileName, String hash) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.upload.base-dir:uploads}")
+    private String uploadBaseDir;
+
+    // 참조가 0이 된 뒤(또는 임시 파일이 만들어진 뒤) 이 시간이 지나야 삭제
+    @Value("${app.assembly.storage.gc-grace-minutes:60}")
+    private long gcGraceMinutes;
+
+    // 같은 hash의 저장/삭제가 겹치지 않도록 hash별 잠금 (단일 인스턴스 기준)
+    private final Object[] locks = createLocks(64);
+
+    // 멀티파트 업로드 저장: Tomcat 임시 파일을 blobs/tmp로 옮긴(같은 디스크면 rename) 뒤 blob으로 등록합니다.
+    public String store(MultipartFile file, String fileName) throws IOException {
+        Path temp = newTempFile();
+        try {
+            // transferTo(File)은 가능하면 Tomcat 임시 파일을 복사 없이 이름만 바꿉니다.
+            file.transferTo(temp.toFile());
+            return storeFile(temp, fileName);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 이미 디스크에 있는 파일(분할 업로드 완료본 등)을 blob으로 옮기고 참조 1을 추가합니다.
+    public String storeFile(Path source, String fileName) throws IOException {
+        String hash = sha256(source);
+        long size = Files.size(source);
+        Path target = blobPath(hash);
+        Files.createDirectories(target.getParent());
+
+        // 이름을 바꾸기 전에 내용을 디스크에 반영해, 장애 후에도 blob 경로에 반쯤 쓰인 파일이 남지 않게 합니다.
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+
+        synchronized (lockFor(hash)) {
+            LocalDateTime now = LocalDateTime.now();
+            jdbcTemplate.update(ACQUIRE_SQL, hash, size, Timestamp.valueOf(now), Timestamp.valueOf(now));
+
+            if (Files.exists(target)) {
+                Files.deleteIfExists(source);
+            } else {
+                moveAtomically(source, target);
+                syncDirectory(target.getParent());
+            }
+        }
+        return BLOB_PREFIX + hash.substring(0, 2) + "/" + hash + "/" + sanitizeFileName(fileName);
+    }
+
+    // 보고서가 더 이상 이 경로를 가리키지 않을 때 호출 (blob 경로가 아니면 무시)
+    public void release(String storedPath) {
+        String hash = hashOf(storedPath);
+        if (hash == null) {
+            return;
+        }
+        jdbcTemplate.update(
+                "update stored_blob set ref_count = ref_count - 1, updated_at = ? where hash = ? and ref_count > 0",
+                Timestamp.valueOf(LocalDateTime.now()),
+                hash
+        );
+    }
+
+    public String hashOf(String storedPath) {
+        if (!StringUtils.hasText(storedPath)) {
+            return null;
+        }
+        Matcher matcher = BLOB_PATH.matcher(storedPath);
+        return matcher.matches() ? matcher.group(2) : null;
+    }
+
+    // 보고서에 저장된 경로를 실제 파일로 해석합니다. 업로드 폴더 밖을 가리키면 null.
+    public StoredFile resolve(String storedPath) {
+        if (!StringUtils.hasText(storedPath)) {
+            return null;
+        }
+
+        Matcher matcher = BLOB_PATH.matcher(storedPath.trim());
+        if (matcher.matches()) {
+            return new StoredFile(blobPath(matcher.group(2)), matcher.group(3), matcher.group(2));
+        }
+
+        // 이전 방식(<loginId>/<month>/<파일명>, /uploads/...) 경로
+        Path uploadBasePath = getUploadBasePath();
+        Path resolvedPath = resolveUploadPath(storedPath, uploadBasePath);
+        if (resolvedPath == null || !isAllowedUploadPath(resolvedPath, uploadBasePath)) {
+            return null;
+        }
+        return new StoredFile(resolvedPath, resolvedPath.getFileName().toString(), null);
+    }
+
+    // 참조 수를 실제 보고서 경로 기준으로 다시 맞춘 뒤, 참조가 없는 blob과 오래된 임시 파일을 삭제합니다.
+    @Scheduled(
+            fixedDelayString = "${app.assembly.storage.gc-interval-ms:3600000}",
+            initialDelayString = "${app.assembly.storage.gc-interval-ms:3600000}"
+    )
+    public void collectGarbage() {
+        try {
+            reconcileRefCounts();
+            deleteUnreferencedBlobs();
+            deleteStaleTempFiles();
+        } catch (Exception e) {
+            log.warn("assembly blob gc failed: {}", e.getMessage());
+        }
+    }
+
+    // 저장 후 보고서 저장 실패 등으로 어긋난 참조 수를 보정 (updated_at은 건드리지 않아 유예 시간이 유지됩니다)
+    void reconcileRefCounts() {
+        Map<String, Integer> actual = new HashMap<>();
+        for (String column : List.of("presentation_path", "pdf_path", "other_path")) {
+            jdbcTemplate.query(
+                    "select " + column + " from assembly_report where " + column + " like ?",
+                    rs -> {
+                        String hash = hashOf(rs.getString(1));
+                        if (hash != null) {
+                            actual.merge(hash, 1, Integer::sum);
+                        }
+                    },
+                    BLOB_PREFIX + "%"
+            );
+        }
+
+        Map<String, Integer> mismatched = new HashMap<>();
+        jdbcTemplate.query("select hash, ref_count from stored_blob", rs -> {
+            String hash = rs.getString("hash");
+            int expected = actual.getOrDefault(hash, 0);
+            if (rs.getInt("ref_count") != expected) {
+                mismatched.put(hash, expected);
+            }
+        });
+        mismatched.forEach((hash, expected) -> {
+            synchronized (lockFor(hash)) {
+                jdbcTemplate.update("update stored_blob set ref_count = ? where hash = ?", expected, hash);
+            }
+        });
+    }
+
+    private void deleteUnreferencedBlobs() throws IOException {
+        Timestamp threshold = Timestamp.valueOf(LocalDateTime.now().minusMinutes(gcGraceMinutes));
+        List<String> candidates = jdbcTemplate.queryForList(
+                "select hash from stored_blob where ref_count <= 0 and updated_at < ?",
+                String.class,
+                threshold
+        );
+
+        for (String hash : candidates) {
+            if (isReferenced(hash)) {
+                continue;
+            }
+            synchronized (lockFor(hash)) {
+                // 그 사이 같은 내용이 다시 저장되었으면 ref_count가 올라가 있어 삭제되지 않습니다.
+                int deleted = jdbcTemplate.update(
+                        "delete from stored_blob where hash = ? and ref_count <= 0 and updated_at < ?",
+                        hash,
+                        threshold
+                );
+                if (deleted > 0) {
+                    Files.deleteIfExists(blobPath(hash));
+                }
+            }
+        }
+    }
+
+    private boolean isReferenced(String hash) {
+        String pattern = BLOB_PREFIX + hash.substring(0, 2) + "/" + hash + "/%";
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from assembly_report where presentation_path like ? or pdf_path like ? or other_path like ?",
+                Integer.class,
+                pattern,
+                pattern,
+                pattern
+        );
+        return count != null && count > 0;
+    }
+
+    private void deleteStaleTempFiles() throws IOException {
+        Path tempDir = getBlobBasePath().resolve(TEMP_DIR);
+        if (!Files.isDirectory(tempDir)) {
+            return;
+        }
+        Instant threshold = Instant.now().minusSeconds(gcGraceMinutes * 60);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(tempDir)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(threshold)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private Path newTempFile() throws IOException {
+        Path tempDir = getBlobBasePath().resolve(TEMP_DIR);
+        Files.createDirectories(tempDir);
+        return tempDir.resolve(UUID.randomUUID() + ".tmp");
+    }
+
+    private void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            // 다른 파일시스템: 같은 폴더의 임시 이름으로 복사한 뒤 원자적으로 이름 변경
+            Path staging = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+            try {
+                Files.copy(source, staging);
+                try (FileChannel channel = FileChannel.open(staging, StandardOpenOption.WRITE)) {
+                    channel.force(true);
+                }
+                Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE);
+                Files.deleteIfExists(source);
+            } finally {
+                Files.deleteIfExists(staging);
+            }
+        } catch (FileAlreadyExistsException e) {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    // 이름 변경을 디렉터리에도 반영 (지원하지 않는 OS에서는 무시)
+    private void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private String sha256(Path path) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(IO_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private Object lockFor(String hash) {
+        return locks[Math.floorMod(hash.hashCode(), locks.length)];
+    }
+
+    private static Object[] createLocks(int size) {
+        Object[] created = new Object[size];
+        for (int i = 0; i < size; i++) {
+            created[i] = new Object();
+        }
+        return created;
+    }
+
+    private Path blobPath(String hash) {
+        return getBlobBasePath().resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private Path getBlobBasePath() {
+        return getUploadBasePath().resolve(BLOB_DIR);
+    }
+
+    private String sanitizeFileName(String fileName) {
+        String cleaned = StringUtils.cleanPath(fileName == null ? "" : fileName.replace("\\", "/"));
+        String name = cleaned.isEmpty() ? "" : Paths.get(cleaned).getFileName().toString();
+        return StringUtils.hasText(name) ? name : "file";
+    }
+
+    private Path getUploadBasePath() {
+        Path configured = Paths.get(uploadBaseDir);
+        if (!configured.isAbsolute()) {
+            configured = Paths.get(System.getProperty("user.dir")).resolve(configured);
+        }
+        return configured.toAbsolutePath().normalize();
+    }
+
+    private Path resolveUploadPath(String rawPath, Path uploadBasePath) {
+        String normalized = rawPath.replace("\\", "/").trim();
+        if (!StringUtils.hasText(normalized)) {
+            return null;
+        }
+
+        if (normalized.startsWith("/uploads/") || normalized.startsWith("uploads/")) {
+            String relative = normalized.replaceFirst("^/?uploads/", "");
+            return uploadBasePath.resolve(relative).normalize();
+        }
+
+        Path requested = Paths.get(rawPath);
+        if (requested.isAbsolute()) {
+            return requested.toAbsolutePath().normalize();
+        }
+
+        return uploadBasePath.resolve(requested).normalize();
+    }
+
+    private boolean isAllowedUploadPath(Path resolvedPath, Path uploadBasePath) {
+        if (resolvedPath.startsWith(uploadBasePath)) {
+            return true;
+        }
+
+        Path currentUploadsBase = Paths.get(System.getProperty("user.dir"), "uploads").toAbsolutePath().normalize();
+        if (resolvedPath.startsWith(currentUploadsBase)) {
+            return true;
+        }
+
+        Path userDir = Paths.get(System.getProperty("user.dir")).toAbsolutePath().normalize();
+        if (userDir.getParent() != null) {
+            Path parentUploadsBase = userDir.getParent().resolve("uploads").toAbsolutePath().normalize();
+            return resolvedPath.startsWith(parentUploadsBase);
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,383 @@
+package kr.co.devsign.devsign_backend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.co.devsign.devsign_backend.dto.admin.AssemblyProcessingMetricsResponse;
+import kr.co.devsign.devsign_backend.entity.AssemblyReport;
+import kr.co.devsign.devsign_backend.service.AssemblyFileStore.StoredFile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipFile;
+
+// ✨ 어셈블리 제출 파일 후처리
+// 제출 직후 요청 스레드는 작업만 넣고, 제한된 워커 풀이 SHA-256 / 슬라이드·페이지 수를 계산해 보고서에 기록합니다.
+// blob 경로는 이름에 hash가 들어 있어 다시 읽지 않고, 같은 내용을 다시 올리면 이전 결과를 재사용합니다.
+// (동일 내용 사본 제거는 AssemblyFileStore의 내용 주소 저장이 담당합니다.)
+// 큐가 가득 차서 못 넣은 작업은 주기적인 sweep이 hash가 비어 있는 행을 찾아 다시 넣습니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssemblyProcessingService {
+
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+    private static final Pattern PPTX_SLIDE = Pattern.compile("ppt/slides/slide\\d+\\.xml");
+
+    public enum ReportFile {
+        PRESENTATION("presentation_path", "presentation_hash", "presentation_pages",
+                AssemblyReport::getPresentationPath, AssemblyReport::getPresentationHash, AssemblyReport::getPresentationPages,
+                AssemblyReport::setPresentationHash, AssemblyReport::setPresentationPages),
+        PDF("pdf_path", "pdf_hash", "pdf_pages",
+                AssemblyReport::getPdfPath, AssemblyReport::getPdfHash, AssemblyReport::getPdfPages,
+                AssemblyReport::setPdfHash, AssemblyReport::setPdfPages),
+        OTHER("other_path", "other_hash", null,
+                AssemblyReport::getOtherPath, AssemblyReport::getOtherHash, report -> null,
+                AssemblyReport::setOtherHash, (report, pages) -> {});
+
+        private final String pathColumn;
+        private final String hashColumn;
+        private final String pagesColumn;
+        private final Function<AssemblyReport, String> pathGetter;
+        private final Function<AssemblyReport, String> hashGetter;
+        private final Function<AssemblyReport, Integer> pagesGetter;
+        private final BiConsumer<AssemblyReport, String> hashSetter;
+        private final BiConsumer<AssemblyReport, Integer> pagesSetter;
+
+        ReportFile(
+                String pathColumn,
+                String hashColumn,
+                String pagesColumn,
+                Function<AssemblyReport, String> pathGetter,
+                Function<AssemblyReport, String> hashGetter,
+                Function<AssemblyReport, Integer> pagesGetter,
+                BiConsumer<AssemblyReport, String> hashSetter,
+                BiConsumer<AssemblyReport, Integer> pagesSetter
+        ) {
+            this.pathColumn = pathColumn;
+            this.hashColumn = hashColumn;
+            this.pagesColumn = pagesColumn;
+            this.pathGetter = pathGetter;
+            this.hashGetter = hashGetter;
+            this.pagesGetter = pagesGetter;
+            this.hashSetter = hashSetter;
+            this.pagesSetter = pagesSetter;
+        }
+    }
+
+    // 교체되기 전 파일 정보 (중복 제출 판별용)
+    public record PreviousFile(ReportFile file, String path, String hash, Integer pages) {}
+
+    private record FileJob(long reportId, ReportFile file, String path, PreviousFile previous) {
+        String key() {
+            return reportId + ":" + file;
+        }
+    }
+
+    private record FileInfo(String hash, Integer pages) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AssemblyFileStore assemblyFileStore;
+
+    @Value("${app.assembly.processing.threads:2}")
+    private int threads;
+
+    @Value("${app.assembly.processing.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Value("${app.assembly.processing.sweep-batch-size:200}")
+    private int sweepBatchSize;
+
+    private ThreadPoolExecutor executor;
+    // 같은 보고서/항목이 큐에 중복으로 들어가지 않게 합니다.
+    private final Set<String> pendingKeys = ConcurrentHashMap.newKeySet();
+    // 파일이 없거나 읽을 수 없어 실패한 항목은 재시작 전까지 sweep에서 다시 넣지 않습니다.
+    private final Set<String> failedKeys = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong queued = new AtomicLong();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong deduplicated = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    @PostConstruct
+    void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "assembly-processing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    void stop() {
+        // 남은 작업은 다음 기동 때 sweep이 다시 처리합니다.
+        executor.shutdownNow();
+    }
+
+    // submit 직전에 호출: 이전 값을 기억해 두고 엔티티의 처리 결과는 비웁니다.
+    public PreviousFile capture(AssemblyReport report, ReportFile file) {
+        PreviousFile previous = new PreviousFile(file, file.pathGetter.apply(report), file.hashGetter.apply(report), file.pagesGetter.apply(report));
+        file.hashSetter.accept(report, null);
+        file.pagesSetter.accept(report, null);
+        return previous;
+    }
+
+    // 저장이 끝난 뒤 호출 (워커가 DB에서 경로를 다시 확인하므로 커밋 이후여야 합니다)
+    public void enqueue(AssemblyReport report, PreviousFile previous) {
+        String path = previous.file().pathGetter.apply(report);
+        if (report.getId() == null || !StringUtils.hasText(path)) {
+            return;
+        }
+        submit(new FileJob(report.getId(), previous.file(), path, previous));
+    }
+
+    public AssemblyProcessingMetricsResponse getMetrics() {
+        return new AssemblyProcessingMetricsResponse(
+                queued.get(),
+                processed.get(),
+                deduplicated.get(),
+                failed.get(),
+                rejected.get(),
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                queueCapacity
+        );
+    }
+
+    // 경로는 있는데 hash가 비어 있는 항목(큐 포화로 밀린 작업, 재시작 전 미처리분, 기존 데이터)을 다시 넣습니다.
+    @Scheduled(
+            fixedDelayString = "${app.assembly.processing.sweep-interval-ms:300000}",
+            initialDelayString = "${app.assembly.processing.sweep-initial-delay-ms:30000}"
+    )
+    public void sweep() {
+        for (ReportFile file : ReportFile.values()) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "select id, " + file.pathColumn + " as path from assembly_report"
+                            + " where " + file.pathColumn + " is not null and " + file.pathColumn + " <> ''"
+                            + " and " + file.hashColumn + " is null order by id limit ?",
+                    sweepBatchSize
+            );
+            for (Map<String, Object> row : rows) {
+                long reportId = ((Number) row.get("id")).longValue();
+                FileJob job = new FileJob(reportId, file, (String) row.get("path"), new PreviousFile(file, null, null, null));
+                if (!failedKeys.contains(job.key()) && !submit(job)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean submit(FileJob job) {
+        if (!pendingKeys.add(job.key())) {
+            return true;
+        }
+        try {
+            executor.execute(() -> run(job));
+            queued.incrementAndGet();
+            return true;
+        } catch (RejectedExecutionException e) {
+            // 큐가 가득 참: 요청은 막지 않고 다음 sweep에서 처리
+            pendingKeys.remove(job.key());
+            rejected.incrementAndGet();
+            return false;
+        }
+    }
+
+    private void run(FileJob job) {
+        try {
+            process(job);
+            failedKeys.remove(job.key());
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            failedKeys.add(job.key());
+            log.warn("assembly file processing failed (report {}, {}): {}", job.reportId(), job.file(), e.getMessage());
+        } finally {
+            pendingKeys.remove(job.key());
+        }
+    }
+
+    private void process(FileJob job) throws IOException {
+        ReportFile file = job.file();
+        // 그 사이 다시 제출되어 경로가 바뀌었으면 이 작업은 버립니다.
+        List<String> current = jdbcTemplate.queryForList(
+                "select " + file.pathColumn + " from assembly_report where id = ?",
+                String.class,
+                job.reportId()
+        );
+        if (current.isEmpty() || !job.path().equals(current.get(0))) {
+            return;
+        }
+
+        StoredFile storedFile = assemblyFileStore.resolve(job.path());
+        if (storedFile == null || !Files.isRegularFile(storedFile.path())) {
+            throw new IOException("file not found: " + job.path());
+        }
+
+        PreviousFile previous = job.previous();
+        String extension = getExtension(storedFile.fileName());
+        boolean pdf = "pdf".equals(extension);
+        String knownHash = storedFile.hash();
+        boolean reusePages = knownHash != null && knownHash.equals(previous.hash()) && previous.pages() != null;
+
+        FileInfo info;
+        if (knownHash != null && (reusePages || !pdf || file.pagesColumn == null)) {
+            // 내용 주소 blob: hash를 다시 계산할 필요가 없음
+            info = new FileInfo(knownHash, null);
+        } else {
+            info = hash(storedFile.path(), pdf && file.pagesColumn != null);
+        }
+
+        Integer pages = info.pages();
+        if (info.hash().equals(previous.hash())) {
+            // 같은 내용의 재제출: 이전에 뽑아 둔 정보를 그대로 사용
+            pages = previous.pages() != null ? previous.pages() : pages;
+            deduplicated.incrementAndGet();
+        }
+        if (pages == null && !pdf && file.pagesColumn != null) {
+            pages = countSlides(storedFile.path(), extension);
+        }
+
+        jdbcTemplate.update(
+                "update assembly_report set " + file.hashColumn + " = ?"
+                        + (file.pagesColumn != null ? ", " + file.pagesColumn + " = ?" : "")
+                        + ", processed_at = ? where id = ? and " + file.pathColumn + " = ?",
+                file.pagesColumn != null
+                        ? new Object[]{info.hash(), pages, Timestamp.valueOf(LocalDateTime.now()), job.reportId(), job.path()}
+                        : new Object[]{info.hash(), Timestamp.valueOf(LocalDateTime.now()), job.reportId(), job.path()}
+        );
+        processed.incrementAndGet();
+    }
+
+    // 파일을 한 번만 읽으면서 SHA-256과 (PDF면) 페이지 수를 함께 계산
+    private FileInfo hash(Path path, boolean countPdfPages) throws IOException {
+        MessageDigest digest = sha256();
+        PdfPageCounter pageCounter = countPdfPages ? new PdfPageCounter() : null;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(IO_BUFFER_SIZE);
+        byte[] chunk = countPdfPages ? new byte[IO_BUFFER_SIZE] : null;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                if (pageCounter != null) {
+                    int length = buffer.remaining();
+                    buffer.duplicate().get(chunk, 0, length);
+                    pageCounter.feed(chunk, length);
+                }
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return new FileInfo(HexFormat.of().formatHex(digest.digest()), pageCounter != null ? pageCounter.result() : null);
+    }
+
+    // pptx는 zip이므로 중앙 디렉터리의 슬라이드 엔트리 수만 셉니다. (.ppt 바이너리는 지원하지 않음)
+    private Integer countSlides(Path path, String extension) {
+        if (!"pptx".equals(extension)) {
+            return null;
+        }
+        try (ZipFile zip = new ZipFile(path.toFile())) {
+            return (int) zip.stream().filter(entry -> PPTX_SLIDE.matcher(entry.getName()).matches()).count();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // PDF 페이지 수 추정: 페이지 트리 루트(/Type /Pages)의 /Count, 없으면 /Type /Page 객체 수
+    // 페이지 트리가 압축된 객체 스트림 안에만 있는 파일은 알 수 없으므로 null을 반환합니다.
+    private static final class PdfPageCounter {
+        private static final Pattern PAGE = Pattern.compile("/Type\\s*/Page(?![A-Za-z])");
+        private static final Pattern PAGES_COUNT = Pattern.compile(
+                "/Type\\s*/Pages(?![A-Za-z])[^>]{0,200}?/Count\\s+(\\d+)|/Count\\s+(\\d+)[^>]{0,200}?/Type\\s*/Pages(?![A-Za-z])"
+        );
+        // 버퍼 경계에 걸친 토큰을 놓치지 않도록 이전 청크의 끝부분을 이어 붙여 검사
+        private static final int CARRY = 256;
+
+        private String carry = "";
+        private int pageObjects;
+        private int maxCount;
+
+        void feed(byte[] bytes, int length) {
+            String text = carry + new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+            int carryLength = carry.length();
+
+            Matcher page = PAGE.matcher(text);
+            while (page.find()) {
+                if (page.end() > carryLength) {
+                    pageObjects++;
+                }
+            }
+            Matcher count = PAGES_COUNT.matcher(text);
+            while (count.find()) {
+                String value = count.group(1) != null ? count.group(1) : count.group(2);
+                try {
+                    maxCount = Math.max(maxCount, Integer.parseInt(value));
+                } catch (NumberFormatException ignored) {
+                }
+            }
+            carry = text.length() > CARRY ? text.substring(text.length() - CARRY) : text;
+        }
+
+        Integer result() {
+            if (maxCount > 0) {
+                return maxCount;
+            }
+            return pageObjects > 0 ? pageObjects : null;
+        }
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private String getExtension(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        if (dot < 0 || dot == fileName.length() - 1) {
+            return "";
+        }
+        return fileName.substring(dot + 1).toLowerCase();
+    }
+}
@@ -1,28 +1,31 @@
 package kr.co.devsign.devsign_backend.service;
 
 import kr.co.devsign.devsign_backend.dto.assembly.SubmissionPeriodResponse;
-import kr.co.devsign.devsign_backend.entity.AssemblyPeriod;
 import kr.co.devsign.devsign_backend.entity.AssemblyProject;
 import kr.co.devsign.devsign_backend.entity.AssemblyReport;
-import kr.co.devsign.devsign_backend.repository.AssemblyPeriodRepository;
 import kr.co.devsign.devsign_backend.repository.AssemblyProjectRepository;
 import kr.co.devsign.devsign_backend.repository.AssemblyReportRepository;
 import kr.co.devsign.devsign_backend.dto.assembly.AssemblyReportResponse;
 import kr.co.devsign.devsign_backend.dto.assembly.MySubmissionsResponse;
 import kr.co.devsign.devsign_backend.dto.assembly.SaveProjectTitleRequest;
 import kr.co.devsign.devsign_backend.dto.assembly.SubmitFilesCommand;
+import kr.co.devsign.devsign_backend.service.AssemblyFileStore.StoredFile;
+import kr.co.devsign.devsign_backend.service.AssemblyProcessingService.PreviousFile;
+import kr.co.devsign.devsign_backend.service.AssemblyProcessingService.ReportFile;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -30,53 +33,33 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class AssemblyService {
 
-    private static final int[] ACTIVE_MONTHS = new int[]{3, 4, 5, 6, 9, 10, 11, 12};
-
-    private final AssemblyPeriodRepository periodRepository;
     private final AssemblyReportRepository reportRepository;
     private final AssemblyProjectRepository projectRepository;
-    @Value("${app.upload.base-dir:uploads}")
-    private String uploadBaseDir;
+    private final AssemblyUploadService assemblyUploadService;
+    private final AssemblyProcessingService assemblyProcessingService;
+    private final AssemblyFileStore assemblyFileStore;
+    private final PeriodDashboardCache periodDashboardCache;
 
+    // 관리자 기간 대시보드와 같은 캐시를 사용합니다.
     public List<SubmissionPeriodResponse> getSubmissionPeriods(int year) {
-        List<AssemblyPeriod> savedPeriods = periodRepository.findByYearOrderByMonthAsc(year);
-        Map<Integer, AssemblyPeriod> periodByMonth = savedPeriods.stream()
-                .collect(java.util.stream.Collectors.toMap(AssemblyPeriod::getMonth, p -> p, (a, b) -> a));
-
-        return Arrays.stream(ACTIVE_MONTHS)
-                .mapToObj(month -> {
-                    int semester = month <= 6 ? 1 : 2;
-                    AssemblyPeriod period = periodByMonth.get(month);
-
-                    String type = period != null && StringUtils.hasText(period.getType())
-                            ? period.getType()
-                            : resolveType(month);
-                    LocalDate startDate = period != null && period.getStartDate() != null
-                            ? period.getStartDate()
-                            : LocalDate.of(year, month, 1);
-                    LocalDate endDate = period != null && period.getEndDate() != null
-                            ? period.getEndDate()
-                            : LocalDate.of(year, month, 28);
-
-                    return new SubmissionPeriodResponse(
-                            period != null ? period.getId() : null,
-                            month,
-                            year,
-                            semester,
-                            type,
-                            startDate.toString(),
-                            endDate.toString()
-                    );
-                })
+        return periodDashboardCache.get(year).stream()
+                .map(period -> new SubmissionPeriodResponse(
+                        period.id(),
+                        period.month(),
+                        period.year(),
+                        period.semester(),
+                        period.type(),
+                        period.startDate(),
+                        period.endDate()
+                ))
                 .toList();
     }
 
@@ -138,6 +121,10 @@ public class AssemblyService {
         MultipartFile pdf = command.pdf();
         MultipartFile other = command.other();
 
+        validateSingleSource(presentation, command.presentationUploadId());
+        validateSingleSource(pdf, command.pdfUploadId());
+        validateSingleSource(other, command.otherUploadId());
+
         AssemblyReport report = null;
 
         if (reportId != null && !reportId.equals("0") && !reportId.startsWith("temp")) {
@@ -164,35 +151,43 @@ public class AssemblyService {
             report.setType(resolveType(month));
         }
 
-        validateUploadFiles(presentation, pdf, other, report);
+        validateUploadFiles(command, report);
+
+        // ✨ 새로 올라오는 항목은 이전 처리 결과를 비우고, 저장 후 백그라운드 후처리(hash/페이지 수)에 넘깁니다.
+        List<PreviousFile> replacedFiles = new ArrayList<>();
+        if (hasUpload(presentation) || StringUtils.hasText(command.presentationUploadId())) {
+            replacedFiles.add(assemblyProcessingService.capture(report, ReportFile.PRESENTATION));
+        }
+        if (hasUpload(pdf) || StringUtils.hasText(command.pdfUploadId())) {
+            replacedFiles.add(assemblyProcessingService.capture(report, ReportFile.PDF));
+        }
+        if (hasUpload(other) || StringUtils.hasText(command.otherUploadId())) {
+            replacedFiles.add(assemblyProcessingService.capture(report, ReportFile.OTHER));
+        }
+
+        // ✨ 파일은 내용 주소 저장소(blobs/)에 원자적으로 저장되고, 보고서에는 논리 경로만 기록합니다.
+        if (hasUpload(presentation)) {
+            report.setPresentationPath(assemblyFileStore.store(presentation, buildStorageFileName("pres_", presentation)));
+        }
+
+        if (hasUpload(pdf)) {
+            report.setPdfPath(assemblyFileStore.store(pdf, buildStorageFileName("pdf_", pdf)));
+        }
 
-        Path uploadBasePath = getUploadBasePath();
-        Path userPath = uploadBasePath.resolve(loginId).resolve(String.valueOf(month)).normalize();
-        validateWithinBase(userPath, uploadBasePath);
-        Files.createDirectories(userPath);
+        if (hasUpload(other)) {
+            report.setOtherPath(assemblyFileStore.store(other, buildStorageFileName("other_", other)));
+        }
 
-        if (presentation != null && !presentation.isEmpty()) {
-            String fileName = buildStorageFileName("pres_", presentation);
-            Path targetPath = userPath.resolve(fileName).normalize();
-            validateWithinBase(targetPath, uploadBasePath);
-            presentation.transferTo(targetPath.toFile());
-            report.setPresentationPath(toStoredPath(uploadBasePath, targetPath));
+        if (StringUtils.hasText(command.presentationUploadId())) {
+            report.setPresentationPath(assemblyUploadService.attach(command.presentationUploadId(), loginId, month, "presentation", "pres_"));
         }
 
-        if (pdf != null && !pdf.isEmpty()) {
-            String fileName = buildStorageFileName("pdf_", pdf);
-            Path targetPath = userPath.resolve(fileName).normalize();
-            validateWithinBase(targetPath, uploadBasePath);
-            pdf.transferTo(targetPath.toFile());
-            report.setPdfPath(toStoredPath(uploadBasePath, targetPath));
+        if (StringUtils.hasText(command.pdfUploadId())) {
+            report.setPdfPath(assemblyUploadService.attach(command.pdfUploadId(), loginId, month, "pdf", "pdf_"));
         }
 
-        if (other != null && !other.isEmpty()) {
-            String fileName = buildStorageFileName("other_", other);
-            Path targetPath = userPath.resolve(fileName).normalize();
-            validateWithinBase(targetPath, uploadBasePath);
-            other.transferTo(targetPath.toFile());
-            report.setOtherPath(toStoredPath(uploadBasePath, targetPath));
+        if (StringUtils.hasText(command.otherUploadId())) {
+            report.setOtherPath(assemblyUploadService.attach(command.otherUploadId(), loginId, month, "other", "other_"));
         }
 
         report.setMemo(memo);
@@ -200,47 +195,69 @@ public class AssemblyService {
         report.setDate(LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy.MM.dd")));
 
         reportRepository.save(report);
+        periodDashboardCache.invalidateAll();
+        for (PreviousFile previous : replacedFiles) {
+            // 교체된 blob의 참조를 하나 줄임 (0이 되면 GC 대상)
+            assemblyFileStore.release(previous.path());
+            assemblyProcessingService.enqueue(report, previous);
+        }
         return "submitted";
     }
 
-    public ResponseEntity<byte[]> downloadFile(String path) {
+    // ✨ 파일을 메모리에 올리지 않고 Resource로 반환합니다.
+    // Spring MVC가 Range 요청은 206 부분 응답으로, ETag/Last-Modified가 일치하면 304로 처리합니다.
+    public ResponseEntity<Resource> downloadFile(String path) {
         try {
             if (!StringUtils.hasText(path)) {
-                return ResponseEntity.badRequest().body(new byte[0]);
+                return ResponseEntity.badRequest().build();
             }
 
-            Path uploadBasePath = getUploadBasePath();
-            Path resolvedPath = resolveUploadPath(path, uploadBasePath);
-
-            if (resolvedPath == null || !isAllowedUploadPath(resolvedPath, uploadBasePath)) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(new byte[0]);
+            StoredFile storedFile = assemblyFileStore.resolve(path);
+            if (storedFile == null) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
 
+            Path resolvedPath = storedFile.path();
             if (!Files.exists(resolvedPath) || !Files.isRegularFile(resolvedPath)) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new byte[0]);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
             }
 
-            byte[] data = Files.readAllBytes(resolvedPath);
-            String fileName = resolvedPath.getFileName().toString();
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-            headers.setContentDisposition(ContentDisposition.attachment()
-                    .filename(fileName, StandardCharsets.UTF_8)
-                    .build());
-
-            return new ResponseEntity<>(data, headers, HttpStatus.OK);
+            Resource resource = new FileSystemResource(resolvedPath);
+            long size = resource.contentLength();
+            long lastModified = resource.lastModified();
+            String fileName = storedFile.fileName();
+            // blob은 내용이 바뀌지 않으므로 hash를 그대로, 이전 경로는 크기/수정 시각으로 ETag를 만듭니다.
+            String eTag = storedFile.hash() != null
+                    ? storedFile.hash()
+                    : Long.toHexString(size) + "-" + Long.toHexString(lastModified);
+
+            // Content-Length는 지정하지 않습니다: Range 요청이면 Spring이 206(단일/multipart/byteranges)으로 바꾸며 길이를 직접 계산합니다.
+            return ResponseEntity.ok()
+                    .contentType(MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename(fileName, StandardCharsets.UTF_8)
+                            .build()
+                            .toString())
+                    .eTag(eTag)
+                    .lastModified(lastModified)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(resource);
         } catch (IOException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new byte[0]);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    private void validateSingleSource(MultipartFile file, String uploadId) {
+        if (hasUpload(file) && StringUtils.hasText(uploadId)) {
+            throw new IllegalArgumentException("같은 항목에 파일과 업로드 ID를 함께 보낼 수 없습니다.");
         }
     }
 
-    private void validateUploadFiles(
-            MultipartFile presentation,
-            MultipartFile pdf,
-            MultipartFile other,
-            AssemblyReport report
-    ) {
+    private void validateUploadFiles(SubmitFilesCommand command, AssemblyReport report) {
+        MultipartFile presentation = command.presentation();
+        MultipartFile pdf = command.pdf();
+        MultipartFile other = command.other();
+
         validateExtension(
                 presentation,
                 Set.of("ppt", "pptx"),
@@ -252,7 +269,10 @@ public class AssemblyService {
                 "PDF 항목에는 .pdf 파일만 업로드할 수 있습니다."
         );
 
-        boolean hasNewFile = hasUpload(presentation) || hasUpload(pdf) || hasUpload(other);
+        boolean hasNewFile = hasUpload(presentation) || hasUpload(pdf) || hasUpload(other)
+                || StringUtils.hasText(command.presentationUploadId())
+                || StringUtils.hasText(command.pdfUploadId())
+                || StringUtils.hasText(command.otherUploadId());
         boolean hasExistingFile = hasAnyExistingFile(report);
 
         if (!hasNewFile && !hasExistingFile) {
@@ -320,16 +340,12 @@ public class AssemblyService {
         );
     }
 
-    private Path getUploadBasePath() {
-        Path configured = Paths.get(uploadBaseDir);
-        if (!configured.isAbsolute()) {
-            configured = Paths.get(System.getProperty("user.dir")).resolve(configured);
-        }
-        return configured.toAbsolutePath().normalize();
+    private String buildStorageFileName(String prefix, MultipartFile file) {
+        return buildStorageFileName(prefix, file.getOriginalFilename());
     }
 
-    private String buildStorageFileName(String prefix, MultipartFile file) {
-        String original = StringUtils.cleanPath(file.getOriginalFilename() == null ? "" : file.getOriginalFilename());
+    private String buildStorageFileName(String prefix, String originalFilename) {
+        String original = StringUtils.cleanPath(originalFilename == null ? "" : originalFilename);
         String fileName = Paths.get(original).getFileName().toString();
         if (!StringUtils.hasText(fileName)) {
             fileName = "file";
@@ -337,51 +353,4 @@ public class AssemblyService {
         return prefix + fileName;
     }
 
-    private String toStoredPath(Path uploadBasePath, Path targetPath) {
-        return uploadBasePath.relativize(targetPath).toString().replace(File.separatorChar, '/');
-    }
-
-    private void validateWithinBase(Path targetPath, Path basePath) {
-        if (!targetPath.startsWith(basePath)) {
-            throw new IllegalArgumentException("invalid upload path");
-        }
-    }
-
-    private Path resolveUploadPath(String rawPath, Path uploadBasePath) {
-        String normalized = rawPath.replace("\\", "/").trim();
-        if (!StringUtils.hasText(normalized)) {
-            return null;
-        }
-
-        if (normalized.startsWith("/uploads/") || normalized.startsWith("uploads/")) {
-            String relative = normalized.replaceFirst("^/?uploads/", "");
-            return uploadBasePath.resolve(relative).normalize();
-        }
-
-        Path requested = Paths.get(rawPath);
-        if (requested.isAbsolute()) {
-            return requested.toAbsolutePath().normalize();
-        }
-
-        return uploadBasePath.resolve(requested).normalize();
-    }
-
-    private boolean isAllowedUploadPath(Path resolvedPath, Path uploadBasePath) {
-        if (resolvedPath.startsWith(uploadBasePath)) {
-            return true;
-        }
-
-        Path currentUploadsBase = Paths.get(System.getProperty("user.dir"), "uploads").toAbsolutePath().normalize();
-        if (resolvedPath.startsWith(currentUploadsBase)) {
-            return true;
-        }
-
-        Path userDir = Paths.get(System.getProperty("user.dir")).toAbsolutePath().normalize();
-        if (userDir.getParent() != null) {
-            Path parentUploadsBase = userDir.getParent().resolve("uploads").toAbsolutePath().normalize();
-            return resolvedPath.startsWith(parentUploadsBase);
-        }
-
-        return false;
-    }
 }
@@ -0,0 +1,332 @@
+package kr.co.devsign.devsign_backend.service;
+
+import kr.co.devsign.devsign_backend.dto.assembly.UploadInitRequest;
+import kr.co.devsign.devsign_backend.dto.assembly.UploadSessionResponse;
+import kr.co.devsign.devsign_backend.entity.UploadSession;
+import kr.co.devsign.devsign_backend.repository.UploadSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// ✨ 어셈블리 제출물 분할(재개 가능) 업로드
+// init → PUT chunk(offset = 지금까지 받은 바이트) 반복 → complete → submit에서 uploadId로 첨부
+// 청크는 최종 폴더의 .part 파일에 위치 지정 쓰기로 바로 기록하고, 청크마다 SHA-256을 검증한 뒤에만 진행도를 올립니다.
+// 연결이 끊기면 GET으로 receivedBytes를 확인해 그 위치부터 이어서 보내면 됩니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssemblyUploadService {
+
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+    // 카테고리별 허용 확장자 (빈 Set = 제한 없음)
+    private static final Map<String, Set<String>> ALLOWED_EXTENSIONS = Map.of(
+            "presentation", Set.of("ppt", "pptx"),
+            "pdf", Set.of("pdf"),
+            "other", Set.of()
+    );
+    private static final Map<String, String> EXTENSION_MESSAGES = Map.of(
+            "presentation", "발표자료는 .ppt 또는 .pptx 파일만 업로드할 수 있습니다.",
+            "pdf", "PDF 항목에는 .pdf 파일만 업로드할 수 있습니다."
+    );
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final AssemblyFileStore assemblyFileStore;
+
+    @Value("${app.upload.base-dir:uploads}")
+    private String uploadBaseDir;
+
+    @Value("${app.upload.session.max-file-size:1073741824}")
+    private long maxFileSize;
+
+    @Value("${app.upload.session.max-chunk-size:16777216}")
+    private long maxChunkSize;
+
+    @Value("${app.upload.session.ttl-hours:24}")
+    private long ttlHours;
+
+    // 같은 세션에 청크가 동시에 들어오면 진행도가 꼬이므로 한 번에 하나만 처리
+    private final Set<String> busySessions = ConcurrentHashMap.newKeySet();
+
+    public UploadSessionResponse init(UploadInitRequest request) throws IOException {
+        if (request == null || !StringUtils.hasText(request.loginId()) || request.month() == null
+                || !StringUtils.hasText(request.fileName()) || request.totalSize() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "loginId, month, category, fileName, totalSize are required");
+        }
+
+        String category = request.category() == null ? "" : request.category().trim().toLowerCase();
+        if (!ALLOWED_EXTENSIONS.containsKey(category)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid category");
+        }
+        if (request.totalSize() <= 0 || request.totalSize() > maxFileSize) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "file size must be between 1 and " + maxFileSize + " bytes");
+        }
+
+        String fileName = sanitizeFileName(request.fileName());
+        Set<String> allowed = ALLOWED_EXTENSIONS.get(category);
+        if (!allowed.isEmpty() && !allowed.contains(getExtension(fileName))) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, EXTENSION_MESSAGES.get(category));
+        }
+
+        UploadSession session = new UploadSession();
+        session.setId(UUID.randomUUID().toString());
+        session.setLoginId(request.loginId());
+        session.setMonth(request.month());
+        session.setCategory(category);
+        session.setFileName(fileName);
+        session.setTotalSize(request.totalSize());
+        session.setReceivedBytes(0);
+        session.setStatus(UploadSession.UPLOADING);
+        session.setCreatedAt(LocalDateTime.now());
+        session.setUpdatedAt(session.getCreatedAt());
+
+        Path partPath = partPath(session);
+        Files.createDirectories(partPath.getParent());
+        Files.deleteIfExists(partPath);
+        Files.createFile(partPath);
+
+        return toResponse(uploadSessionRepository.save(session));
+    }
+
+    public UploadSessionResponse getStatus(String uploadId) {
+        return toResponse(findSession(uploadId));
+    }
+
+    // offset은 반드시 서버가 받은 바이트 수와 같아야 합니다. (중복/누락 청크 방지)
+    public UploadSessionResponse writeChunk(String uploadId, long offset, String checksum, InputStream body) throws IOException {
+        if (!StringUtils.hasText(checksum)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "X-Chunk-Sha256 header is required");
+        }
+
+        lock(uploadId);
+        try {
+            UploadSession session = findSession(uploadId);
+            if (!UploadSession.UPLOADING.equals(session.getStatus())) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "upload already completed");
+            }
+            if (offset != session.getReceivedBytes()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "offset must be " + session.getReceivedBytes());
+            }
+
+            long limit = Math.min(maxChunkSize, session.getTotalSize() - offset);
+            long written = writeAt(partPath(session), offset, limit, checksum, body);
+
+            session.setReceivedBytes(offset + written);
+            session.setUpdatedAt(LocalDateTime.now());
+            return toResponse(uploadSessionRepository.save(session));
+        } finally {
+            busySessions.remove(uploadId);
+        }
+    }
+
+    public UploadSessionResponse complete(String uploadId) throws IOException {
+        lock(uploadId);
+        try {
+            UploadSession session = findSession(uploadId);
+            if (UploadSession.COMPLETED.equals(session.getStatus())) {
+                return toResponse(session);
+            }
+            if (session.getReceivedBytes() != session.getTotalSize()
+                    || Files.size(partPath(session)) != session.getTotalSize()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "upload is incomplete: " + session.getReceivedBytes() + "/" + session.getTotalSize());
+            }
+
+            session.setStatus(UploadSession.COMPLETED);
+            session.setUpdatedAt(LocalDateTime.now());
+            return toResponse(uploadSessionRepository.save(session));
+        } finally {
+            busySessions.remove(uploadId);
+        }
+    }
+
+    public void abort(String uploadId) throws IOException {
+        lock(uploadId);
+        try {
+            UploadSession session = findSession(uploadId);
+            Files.deleteIfExists(partPath(session));
+            uploadSessionRepository.delete(session);
+        } finally {
+            busySessions.remove(uploadId);
+        }
+    }
+
+    // submit 시 완료된 업로드를 blob 저장소로 옮기고 보고서에 기록할 경로를 돌려줍니다.
+    public String attach(String uploadId, String loginId, int month, String category, String filePrefix) throws IOException {
+        lock(uploadId);
+        try {
+            UploadSession session = uploadSessionRepository.findById(uploadId)
+                    .orElseThrow(() -> new IllegalArgumentException("upload not found: " + uploadId));
+            if (!session.getLoginId().equals(loginId) || session.getMonth() != month || !session.getCategory().equals(category)) {
+                throw new IllegalArgumentException("upload does not match this submission: " + uploadId);
+            }
+            if (!UploadSession.COMPLETED.equals(session.getStatus())) {
+                throw new IllegalArgumentException("upload is not completed: " + uploadId);
+            }
+
+            // 이미 fsync된 .part 파일이라 같은 디스크면 이름 변경만으로 blob이 됩니다.
+            String storedPath = assemblyFileStore.storeFile(partPath(session), filePrefix + session.getFileName());
+            uploadSessionRepository.delete(session);
+            return storedPath;
+        } finally {
+            busySessions.remove(uploadId);
+        }
+    }
+
+    // 오래 방치된 세션(중단된 업로드, 완료 후 제출하지 않은 업로드)의 임시 파일과 행을 정리
+    @Scheduled(
+            fixedDelayString = "${app.upload.session.gc-interval-ms:3600000}",
+            initialDelayString = "${app.upload.session.gc-interval-ms:3600000}"
+    )
+    public void purgeStaleSessions() {
+        LocalDateTime threshold = LocalDateTime.now().minusHours(ttlHours);
+        List<UploadSession> stale;
+        do {
+            stale = uploadSessionRepository.findTop100ByUpdatedAtBeforeOrderByUpdatedAtAsc(threshold);
+            for (UploadSession session : stale) {
+                if (!busySessions.add(session.getId())) {
+                    continue;
+                }
+                try {
+                    Files.deleteIfExists(partPath(session));
+                    uploadSessionRepository.delete(session);
+                } catch (Exception e) {
+                    log.warn("upload session cleanup failed ({}): {}", session.getId(), e.getMessage());
+                    return;
+                } finally {
+                    busySessions.remove(session.getId());
+                }
+            }
+        } while (stale.size() == 100);
+    }
+
+    // 본문을 읽으면서 같은 버퍼로 해시 계산과 위치 지정 쓰기를 함께 합니다.
+    // 검증에 실패하면 이번 청크로 늘어난 부분을 잘라내고 진행도는 그대로 둡니다.
+    private long writeAt(Path partPath, long offset, long limit, String checksum, InputStream body) throws IOException {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(IO_BUFFER_SIZE);
+        long written = 0;
+
+        try (FileChannel channel = FileChannel.open(partPath, StandardOpenOption.WRITE);
+             ReadableByteChannel in = Channels.newChannel(body)) {
+            try {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    if (read == 0) {
+                        continue;
+                    }
+                    if (written + buffer.position() > limit) {
+                        throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "chunk exceeds " + limit + " bytes");
+                    }
+                    buffer.flip();
+                    digest.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        written += channel.write(buffer, offset + written);
+                    }
+                    buffer.clear();
+                }
+
+                if (written == 0) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "empty chunk");
+                }
+                if (!HexFormat.of().formatHex(digest.digest()).equalsIgnoreCase(checksum.trim())) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "chunk checksum mismatch");
+                }
+                // 응답으로 진행도를 알려주기 전에 디스크에 반영
+                channel.force(false);
+                return written;
+            } catch (IOException | RuntimeException e) {
+                channel.truncate(offset);
+                throw e;
+            }
+        }
+    }
+
+    private void lock(String uploadId) {
+        if (!busySessions.add(uploadId)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "another request is in progress for this upload");
+        }
+    }
+
+    private UploadSession findSession(String uploadId) {
+        return uploadSessionRepository.findById(uploadId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "upload not found"));
+    }
+
+    private Path partPath(UploadSession session) {
+        Path uploadBasePath = getUploadBasePath();
+        Path partPath = uploadBasePath
+                .resolve(session.getLoginId())
+                .resolve(String.valueOf(session.getMonth()))
+                .resolve(".upload-" + session.getId() + ".part")
+                .normalize();
+        if (!partPath.startsWith(uploadBasePath)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid upload path");
+        }
+        return partPath;
+    }
+
+    private UploadSessionResponse toResponse(UploadSession session) {
+        return new UploadSessionResponse(
+                session.getId(),
+                session.getStatus(),
+                session.getReceivedBytes(),
+                session.getTotalSize(),
+                maxChunkSize
+        );
+    }
+
+    private String sanitizeFileName(String original) {
+        String cleaned = StringUtils.cleanPath(original.replace("\\", "/"));
+        String fileName = Paths.get(cleaned).getFileName().toString();
+        return StringUtils.hasText(fileName) ? fileName : "file";
+    }
+
+    private String getExtension(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        if (dot < 0 || dot == fileName.length() - 1) {
+            return "";
+        }
+        return fileName.substring(dot + 1).toLowerCase();
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private Path getUploadBasePath() {
+        Path configured = Paths.get(uploadBaseDir);
+        if (!configured.isAbsolute()) {
+            configured = Paths.get(System.getProperty("user.dir")).resolve(configured);
+        }
+        return configured.toAbsolutePath().normalize();
+    }
+}
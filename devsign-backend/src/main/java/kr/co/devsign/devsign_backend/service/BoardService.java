@@ -3,11 +3,8 @@ package kr.co.devsign.devsign_backend.service;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import kr.co.devsign.devsign_backend.entity.Comment;
-import kr.co.devsign.devsign_backend.entity.CommentLike;
 import kr.co.devsign.devsign_backend.entity.Member;
 import kr.co.devsign.devsign_backend.entity.Post;
-import kr.co.devsign.devsign_backend.entity.PostLike;
-import kr.co.devsign.devsign_backend.entity.PostView;
 import kr.co.devsign.devsign_backend.repository.CommentLikeRepository;
 import kr.co.devsign.devsign_backend.repository.CommentRepository;
 import kr.co.devsign.devsign_backend.repository.MemberRepository;
@@ -17,10 +14,19 @@ import kr.co.devsign.devsign_backend.repository.PostViewRepository;
 import kr.co.devsign.devsign_backend.dto.board.CommentResponse;
 import kr.co.devsign.devsign_backend.dto.board.CreateCommentRequest;
 import kr.co.devsign.devsign_backend.dto.board.CreatePostRequest;
+import kr.co.devsign.devsign_backend.dto.board.LikeToggleResponse;
+import kr.co.devsign.devsign_backend.dto.board.PostFeedResponse;
 import kr.co.devsign.devsign_backend.dto.board.PostResponse;
+import kr.co.devsign.devsign_backend.dto.board.PostSummaryResponse;
 import kr.co.devsign.devsign_backend.dto.board.UpdatePostRequest;
 import kr.co.devsign.devsign_backend.dto.common.StatusResponse;
+import kr.co.devsign.devsign_backend.dto.member.MemberProfile;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.http.HttpStatus;
@@ -29,9 +35,13 @@ import org.springframework.web.server.ResponseStatusException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BoardService {
@@ -44,29 +54,64 @@ public class BoardService {
     private final CommentLikeRepository commentLikeRepository;
 
     private final AccessLogService accessLogService;
+    private final MediaStorageService mediaStorageService;
+    private final MemberProfileCache memberProfileCache;
+    private final LikedStatusResolver likedStatusResolver;
+    private final ViewCountService viewCountService;
 
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Value("${app.board.feed.default-size:20}")
+    private int feedDefaultSize;
+
+    @Value("${app.board.feed.max-size:100}")
+    private int feedMaxSize;
+
+    // 호환 모드: 전체 게시글을 댓글 트리/이미지까지 포함해 반환 (신규 화면은 getFeed 사용)
     public List<PostResponse> getAllPosts() {
-        return postRepository.findAllByOrderByIdDesc().stream()
-                .map(this::toPostResponse)
+        List<Post> posts = postRepository.findAllByOrderByIdDesc();
+
+        Set<String> loginIds = new HashSet<>();
+        posts.forEach(post -> collectLoginIds(post, post.getCommentsList(), loginIds));
+        Map<String, MemberProfile> profiles = memberProfileCache.getAll(loginIds);
+
+        return posts.stream()
+                .map(post -> toPostResponse(post, profiles))
                 .toList();
     }
 
+    public PostFeedResponse getFeed(Long cursor, Integer size) {
+        int pageSize = size == null || size <= 0 ? feedDefaultSize : Math.min(size, feedMaxSize);
+        long before = cursor == null || cursor <= 0 ? Long.MAX_VALUE : cursor;
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<PostSummaryResponse> rows = postRepository.findFeedBefore(before, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+
+        Map<String, MemberProfile> profiles = memberProfileCache.getAll(
+                rows.stream().map(PostSummaryResponse::loginId).toList()
+        );
+        List<PostSummaryResponse> page = rows.stream()
+                .limit(pageSize)
+                .map(summary -> withAuthorProfile(summary, profiles.get(summary.loginId())))
+                .toList();
+        return new PostFeedResponse(page, hasNext ? page.get(pageSize - 1).id() : null);
+    }
+
     public PostResponse createPost(CreatePostRequest payload, String loginId, String ip) {
-        Member member = memberRepository.findByLoginId(loginId).orElseThrow();
+        MemberProfile member = memberProfileCache.get(loginId).orElseThrow();
 
         Post post = new Post();
         post.setTitle(payload.title());
         post.setContent(payload.content());
         post.setCategory(payload.category());
-        post.setImages(payload.images() != null ? payload.images() : new ArrayList<>());
+        post.setImages(payload.images() != null ? new ArrayList<>(mediaStorageService.toReferences(payload.images())) : new ArrayList<>());
 
-        post.setAuthor(member.getName());
-        post.setLoginId(member.getLoginId());
-        post.setStudentId(member.getStudentId());
-        post.setProfileImage(member.getProfileImage());
+        // 작성 시점 이름/학번은 탈퇴 회원 대비용 스냅샷으로만 보관하고, 프로필 이미지는 캐시에서 조립합니다.
+        post.setAuthor(member.name());
+        post.setLoginId(member.loginId());
+        post.setStudentId(member.studentId());
         post.setDate(LocalDateTime.now().format(DateTimeFormatter.ofPattern("MM.dd HH:mm")));
 
         Post saved = postRepository.save(post);
@@ -76,22 +121,18 @@ public class BoardService {
 
     @Transactional
     public PostResponse getPostDetail(Long id, String loginId) {
-        Post post = postRepository.findById(id).orElseThrow();
-        Member member = memberRepository.findByLoginId(loginId != null ? loginId : "").orElse(null);
+        long statementsBefore = preparedStatementCount();
+
+        Post post = postRepository.findWithImagesById(id).orElseThrow();
+        MemberProfile member = memberProfileCache.get(loginId).orElse(null);
 
         if (member != null) {
-            if (!postViewRepository.existsByMemberAndPost(member, post)) {
-                post.setViews(post.getViews() + 1);
-                postRepository.save(post);
-
-                PostView view = new PostView();
-                view.setMember(member);
-                view.setPost(post);
-                postViewRepository.save(view);
-            }
-            syncLikedStatus(post, member);
+            viewCountService.recordView(ViewCountService.ViewTarget.POST, post.getId(), member.id());
         }
-        return toPostResponse(post);
+
+        PostResponse response = toPostDetailResponse(post, member != null ? member.id() : null);
+        logStatementCount(id, statementsBefore);
+        return response;
     }
 
     public PostResponse updatePost(Long id, UpdatePostRequest payload, String loginId, String ip) {
@@ -101,7 +142,7 @@ public class BoardService {
         post.setTitle(payload.title());
         post.setContent(payload.content());
         post.setCategory(payload.category());
-        post.setImages(payload.images() != null ? payload.images() : new ArrayList<>());
+        post.setImages(payload.images() != null ? new ArrayList<>(mediaStorageService.toReferences(payload.images())) : new ArrayList<>());
 
         accessLogService.logByLoginId(loginId, "POST_UPDATE", ip);
         return toPostResponse(postRepository.save(post));
@@ -125,34 +166,26 @@ public class BoardService {
         return StatusResponse.success();
     }
 
+    // 좋아요 토글: 삭제 → 없으면 insert ignore, 카운터는 UPDATE 한 번으로 원자적으로 증감
     @Transactional
-    public PostResponse toggleLike(Long id, String loginId, String ip) {
-        Post post = postRepository.findById(id).orElseThrow();
-        Member member = memberRepository.findByLoginId(loginId).orElseThrow();
-
-        Optional<PostLike> existingLike = postLikeRepository.findByMemberAndPost(member, post);
-
-        if (existingLike.isPresent()) {
-            postLikeRepository.delete(existingLike.get());
-            post.setLikes(Math.max(0, post.getLikes() - 1));
+    public LikeToggleResponse toggleLike(Long id, String loginId, String ip) {
+        MemberProfile member = memberProfileCache.get(loginId).orElseThrow();
+        postRepository.findLikesById(id).orElseThrow();
+
+        boolean liked;
+        if (postLikeRepository.deleteLike(member.id(), id) > 0) {
+            postRepository.adjustLikes(id, -1);
+            liked = false;
         } else {
-            PostLike newLike = new PostLike();
-            newLike.setMember(member);
-            newLike.setPost(post);
-            postLikeRepository.save(newLike);
-            post.setLikes(post.getLikes() + 1);
-            accessLogService.logByLoginId(loginId, "LIKE", ip);
+            // 동시 요청으로 이미 들어간 경우(0건) 카운터는 건드리지 않음
+            if (postLikeRepository.insertLike(member.id(), id) > 0) {
+                postRepository.adjustLikes(id, 1);
+                accessLogService.logByLoginId(loginId, "LIKE", ip);
+            }
+            liked = true;
         }
 
-        postRepository.save(post);
-
-        entityManager.flush();
-        entityManager.clear();
-
-        Post updatedPost = postRepository.findById(id).orElseThrow();
-        Member freshMember = memberRepository.findByLoginId(loginId).orElseThrow();
-        syncLikedStatus(updatedPost, freshMember);
-        return toPostResponse(updatedPost);
+        return new LikeToggleResponse("success", null, liked, postRepository.findLikesById(id).orElse(0));
     }
 
     @Transactional
@@ -165,7 +198,6 @@ public class BoardService {
         comment.setAuthor(member.getName());
         comment.setLoginId(member.getLoginId());
         comment.setStudentId(member.getStudentId());
-        comment.setProfileImage(member.getProfileImage());
         comment.setDate(LocalDateTime.now().format(DateTimeFormatter.ofPattern("MM.dd HH:mm")));
         comment.setPost(post);
 
@@ -181,10 +213,7 @@ public class BoardService {
         entityManager.flush();
         entityManager.clear();
 
-        Post updatedPost = postRepository.findById(postId).orElseThrow();
-        Member freshMember = memberRepository.findByLoginId(loginId).orElseThrow();
-        syncLikedStatus(updatedPost, freshMember);
-        return toPostResponse(updatedPost);
+        return toPostDetailResponse(postRepository.findWithImagesById(postId).orElseThrow(), member.getId());
     }
 
     @Transactional
@@ -207,10 +236,8 @@ public class BoardService {
         entityManager.flush();
         entityManager.clear();
 
-        Post post = postRepository.findById(postId).orElseThrow();
-        Member freshMember = memberRepository.findByLoginId(loginId).orElse(null);
-        syncLikedStatus(post, freshMember);
-        return toPostResponse(post);
+        Long memberId = memberProfileCache.get(loginId).map(MemberProfile::id).orElse(null);
+        return toPostDetailResponse(postRepository.findWithImagesById(postId).orElseThrow(), memberId);
     }
 
     private void collectCommentsForDelete(Comment current, List<Comment> result) {
@@ -224,49 +251,22 @@ public class BoardService {
     }
 
     @Transactional
-    public PostResponse toggleCommentLike(Long postId, Long commentId, String loginId) {
-        Comment comment = commentRepository.findById(commentId).orElseThrow();
-        Member member = memberRepository.findByLoginId(loginId).orElseThrow();
-
-        Optional<CommentLike> existing = commentLikeRepository.findByMemberAndComment(member, comment);
-
-        if (existing.isPresent()) {
-            commentLikeRepository.delete(existing.get());
-            comment.setLikes(Math.max(0, comment.getLikes() - 1));
+    public LikeToggleResponse toggleCommentLike(Long postId, Long commentId, String loginId) {
+        MemberProfile member = memberProfileCache.get(loginId).orElseThrow();
+        commentRepository.findLikesByIdAndPostId(commentId, postId).orElseThrow();
+
+        boolean liked;
+        if (commentLikeRepository.deleteLike(member.id(), commentId) > 0) {
+            commentRepository.adjustLikes(commentId, -1);
+            liked = false;
         } else {
-            CommentLike cl = new CommentLike();
-            cl.setMember(member);
-            cl.setComment(comment);
-            commentLikeRepository.save(cl);
-            comment.setLikes(comment.getLikes() + 1);
+            if (commentLikeRepository.insertLike(member.id(), commentId) > 0) {
+                commentRepository.adjustLikes(commentId, 1);
+            }
+            liked = true;
         }
-        commentRepository.save(comment);
-
-        entityManager.flush();
-        entityManager.clear();
 
-        Post post = postRepository.findById(postId).orElseThrow();
-        Member freshMember = memberRepository.findByLoginId(loginId).orElseThrow();
-        syncLikedStatus(post, freshMember);
-        return toPostResponse(post);
-    }
-
-    private void syncLikedStatus(Post post, Member member) {
-        if (member == null) return;
-
-        post.setLikedByMe(postLikeRepository.existsByMemberAndPost(member, post));
-
-        if (post.getCommentsList() != null) {
-            post.getCommentsList().forEach(comment -> {
-                comment.setLikedByMe(commentLikeRepository.existsByMemberAndComment(member, comment));
-
-                if (comment.getReplies() != null) {
-                    comment.getReplies().forEach(reply ->
-                            reply.setLikedByMe(commentLikeRepository.existsByMemberAndComment(member, reply))
-                    );
-                }
-            });
-        }
+        return new LikeToggleResponse("success", null, liked, commentRepository.findLikesByIdAndPostId(commentId, postId).orElse(0));
     }
 
     private void validatePostOwnership(Post post, String loginId) {
@@ -285,48 +285,137 @@ public class BoardService {
         }
     }
 
+    // 상세 조회 경로: 게시글+이미지(엔티티 그래프), 댓글 전체(평면 조회), 좋아요 여부(2건)로
+    // 댓글 트리 깊이/개수와 무관하게 쿼리 수가 일정합니다.
+    private PostResponse toPostDetailResponse(Post post, Long memberId) {
+        List<Comment> comments = commentRepository.findByPostIdOrderByIdAsc(post.getId());
+        LikedStatusResolver.LikedStatus liked = likedStatusResolver.resolve(post.getId(), memberId);
+
+        Set<String> loginIds = new HashSet<>();
+        collectLoginIds(post, comments, loginIds);
+        return toPostResponse(post, comments, liked, memberProfileCache.getAll(loginIds));
+    }
+
     private PostResponse toPostResponse(Post post) {
-        List<CommentResponse> comments = post.getCommentsList() == null
-                ? List.of()
-                : post.getCommentsList().stream().map(this::toCommentResponse).toList();
+        Set<String> loginIds = new HashSet<>();
+        collectLoginIds(post, post.getCommentsList(), loginIds);
+        return toPostResponse(post, memberProfileCache.getAll(loginIds));
+    }
+
+    private PostResponse toPostResponse(Post post, Map<String, MemberProfile> profiles) {
+        List<Comment> comments = post.getCommentsList() == null ? List.of() : post.getCommentsList();
+        return toPostResponse(post, comments, LikedStatusResolver.LikedStatus.NONE, profiles);
+    }
+
+    // comments는 대댓글까지 포함한 게시글의 전체 댓글 목록(id 오름차순)이며,
+    // 트리는 parent_id 기준으로 메모리에서 조립합니다. (replies 컬렉션 지연 로딩 없음)
+    private PostResponse toPostResponse(
+            Post post,
+            List<Comment> comments,
+            LikedStatusResolver.LikedStatus liked,
+            Map<String, MemberProfile> profiles
+    ) {
+        Map<Long, List<Comment>> repliesByParentId = new HashMap<>();
+        for (Comment comment : comments) {
+            if (comment.getParent() != null) {
+                repliesByParentId.computeIfAbsent(comment.getParent().getId(), key -> new ArrayList<>()).add(comment);
+            }
+        }
+
+        List<CommentResponse> commentResponses = comments.stream()
+                .map(comment -> toCommentResponse(comment, repliesByParentId, liked, profiles))
+                .toList();
+
+        MemberProfile author = profiles.get(post.getLoginId());
 
         return new PostResponse(
                 post.getId(),
                 post.getTitle(),
                 post.getContent(),
                 post.getCategory(),
-                post.getAuthor(),
+                author != null ? author.name() : post.getAuthor(),
                 post.getLoginId(),
-                post.getStudentId(),
-                post.getProfileImage(),
-                post.getViews(),
+                author != null ? author.studentId() : post.getStudentId(),
+                mediaStorageService.toUrl(author != null ? author.profileImage() : post.getProfileImage()),
+                post.getViews() + viewCountService.pendingViews(ViewCountService.ViewTarget.POST, post.getId()),
                 post.getLikes(),
-                post.isLikedByMe(),
-                post.getImages() == null ? List.of() : post.getImages(),
-                comments,
+                liked.isPostLiked(),
+                post.getImages() == null ? List.of() : mediaStorageService.toUrls(post.getImages()),
+                commentResponses,
                 post.getCreatedAt(),
                 post.getDate()
         );
     }
 
-    private CommentResponse toCommentResponse(Comment comment) {
-        List<CommentResponse> replies = comment.getReplies() == null
-                ? List.of()
-                : comment.getReplies().stream().map(this::toCommentResponse).toList();
+    private CommentResponse toCommentResponse(
+            Comment comment,
+            Map<Long, List<Comment>> repliesByParentId,
+            LikedStatusResolver.LikedStatus liked,
+            Map<String, MemberProfile> profiles
+    ) {
+        List<CommentResponse> replies = repliesByParentId.getOrDefault(comment.getId(), List.of()).stream()
+                .map(reply -> toCommentResponse(reply, repliesByParentId, liked, profiles))
+                .toList();
+
+        MemberProfile author = profiles.get(comment.getLoginId());
 
         return new CommentResponse(
                 comment.getId(),
                 comment.getContent(),
-                comment.getAuthor(),
+                author != null ? author.name() : comment.getAuthor(),
                 comment.getLoginId(),
-                comment.getStudentId(),
-                comment.getProfileImage(),
+                author != null ? author.studentId() : comment.getStudentId(),
+                mediaStorageService.toUrl(author != null ? author.profileImage() : comment.getProfileImage()),
                 comment.getDate(),
                 comment.getCreatedAt(),
                 comment.getLikes(),
-                comment.isLikedByMe(),
+                liked.isCommentLiked(comment.getId()),
                 comment.isReply(),
                 replies
         );
     }
+
+    private void collectLoginIds(Post post, List<Comment> comments, Set<String> loginIds) {
+        loginIds.add(post.getLoginId());
+        if (comments != null) {
+            comments.forEach(comment -> loginIds.add(comment.getLoginId()));
+        }
+    }
+
+    private long preparedStatementCount() {
+        Statistics statistics = getStatistics();
+        return statistics.isStatisticsEnabled() ? statistics.getPrepareStatementCount() : -1;
+    }
+
+    // hibernate.generate_statistics=true 일 때만 상세 조회 1건당 실행된 SQL 수를 기록합니다.
+    // (전역 통계 차이값이므로 동시 요청이 있으면 다른 요청의 쿼리가 섞일 수 있습니다.)
+    private void logStatementCount(Long postId, long before) {
+        if (before < 0) {
+            return;
+        }
+        log.info("post detail {} loaded with {} statements", postId, getStatistics().getPrepareStatementCount() - before);
+    }
+
+    private Statistics getStatistics() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private PostSummaryResponse withAuthorProfile(PostSummaryResponse summary, MemberProfile author) {
+        return new PostSummaryResponse(
+                summary.id(),
+                summary.title(),
+                summary.contentPreview(),
+                summary.category(),
+                author != null ? author.name() : summary.author(),
+                summary.loginId(),
+                author != null ? author.studentId() : summary.studentId(),
+                author != null ? mediaStorageService.toUrl(author.profileImage()) : summary.profileImage(),
+                summary.views() + viewCountService.pendingViews(ViewCountService.ViewTarget.POST, summary.id()),
+                summary.likes(),
+                summary.commentCount(),
+                summary.imageCount(),
+                summary.createdAt(),
+                summary.date()
+        );
+    }
 }
@@ -0,0 +1,148 @@
+package kr.co.devsign.devsign_backend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// ✨ discordTag -> 디스코드 아바타 URL 캐시
+// 로그인 요청은 봇을 기다리지 않고 캐시된 값(없으면 기본 아바타)을 바로 돌려받습니다.
+// TTL이 지난 값은 그대로 응답하면서 백그라운드에서 갱신합니다. (stale-while-revalidate)
+// 타임아웃/회로 차단은 DiscordBotClient가 담당하며, 회로가 열려 있으면 갱신은 바로 실패하고 기존 값이 유지됩니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DiscordAvatarService {
+
+    public static final String DEFAULT_AVATAR_URL = "https://cdn.discordapp.com/embed/avatars/0.png";
+
+    private final DiscordBotClient discordBotClient;
+
+    @Value("${app.discord.avatar.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${app.discord.avatar.max-size:2000}")
+    private int maxSize;
+
+    @Value("${app.discord.avatar.threads:2}")
+    private int threads;
+
+    @Value("${app.discord.avatar.queue-capacity:100}")
+    private int queueCapacity;
+
+    private final Map<String, CachedAvatar> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedAvatar> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    // 같은 태그의 갱신이 동시에 여러 번 나가지 않게 합니다.
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "discord-avatar-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    // 요청 스레드에서 호출: 절대 봇 응답을 기다리지 않습니다.
+    // 캐시에 없으면 fallback(저장된 프로필 이미지 등), 그것도 비어 있으면 기본 아바타를 돌려줍니다.
+    public String getAvatarUrl(String discordTag, String fallback) {
+        String defaultUrl = StringUtils.hasText(fallback) ? fallback : DEFAULT_AVATAR_URL;
+        if (!StringUtils.hasText(discordTag)) {
+            return defaultUrl;
+        }
+
+        CachedAvatar cached;
+        synchronized (cache) {
+            cached = cache.get(discordTag);
+        }
+
+        if (cached == null || cached.fetchedAt() + ttlSeconds * 1000 <= System.currentTimeMillis()) {
+            scheduleRefresh(discordTag);
+        }
+        return cached != null && cached.avatarUrl() != null ? cached.avatarUrl() : defaultUrl;
+    }
+
+    // 회원 정보 변경 등으로 태그가 바뀌었을 때
+    public void invalidate(String discordTag) {
+        if (discordTag == null) {
+            return;
+        }
+        synchronized (cache) {
+            cache.remove(discordTag);
+        }
+    }
+
+    private void scheduleRefresh(String discordTag) {
+        if (!refreshing.add(discordTag)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    refresh(discordTag);
+                } finally {
+                    refreshing.remove(discordTag);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 큐가 가득 참: 이번에는 건너뛰고 다음 요청 때 다시 시도
+            refreshing.remove(discordTag);
+        }
+    }
+
+    private void refresh(String discordTag) {
+        try {
+            Map<String, Object> botResponse = discordBotClient.getAvatar(discordTag);
+            String avatarUrl = null;
+            if (botResponse != null && "success".equals(botResponse.get("status"))
+                    && botResponse.get("avatarUrl") instanceof String url && StringUtils.hasText(url)) {
+                avatarUrl = url;
+            }
+            // 서버에 없는 태그도 "아바타 없음"(null)으로 캐시해 매 로그인마다 다시 묻지 않습니다. (응답 시 fallback 사용)
+            synchronized (cache) {
+                cache.put(discordTag, new CachedAvatar(avatarUrl, System.currentTimeMillis()));
+            }
+        } catch (Exception e) {
+            // 실패하면 기존 값을 그대로 두고 다음 요청 때 다시 시도
+            log.debug("discord avatar refresh failed for {}: {}", discordTag, e.getMessage());
+        }
+    }
+
+    private record CachedAvatar(String avatarUrl, long fetchedAt) {
+    }
+}
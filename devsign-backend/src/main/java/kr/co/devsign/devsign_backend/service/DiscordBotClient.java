@@ -1,42 +1,383 @@
 package kr.co.devsign.devsign_backend.service;
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.co.devsign.devsign_backend.dto.admin.DiscordBotCallMetrics;
+import kr.co.devsign.devsign_backend.dto.admin.DiscordBotMetricsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriUtils;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
+// ✨ 디스코드 봇(discord-bot/discordBot.py) HTTP 클라이언트
+// - JDK HttpClient 하나를 공유해 keep-alive 연결을 재사용하고, 호출마다 타임아웃을 둡니다.
+// - 호출 종류별 동시 실행 수 제한(bulkhead): 가득 차면 기다리지 않고 바로 실패합니다.
+// - 조회성(GET) 호출만 지수 백오프 + jitter로 재시도합니다. (인증 코드 발송은 중복 DM 방지를 위해 재시도하지 않음)
+// - 연속 실패 시 회로를 열어 일정 시간 바로 실패시키고, 이후 한 건만 시험 호출해 복구를 확인합니다.
+// - 호출별 지연 시간 히스토그램은 /api/admin/metrics/discord-bot 에서 확인합니다.
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class DiscordBotClient {
 
-    private final RestTemplate restTemplate;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+    private static final long[] LATENCY_BUCKETS_MS = {10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
 
-    // 필요하면 application.yml로 빼서 @Value로 주입 추천
-    private static final String BOT_BASE = "http://127.0.0.1:8000";
+    public enum Call {
+        GET_AVATAR(true),
+        CHECK_MEMBER(true),
+        SEND_CODE(false),
+        SYNC_ALL_MEMBERS(true);
+
+        private final boolean idempotent;
+
+        Call(boolean idempotent) {
+            this.idempotent = idempotent;
+        }
+    }
+
+    // 봇이 응답하지 않거나, 회로가 열려 있거나, 동시 호출 한도를 넘었을 때
+    public static class DiscordBotException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        public DiscordBotException(String message) {
+            super(message);
+        }
+
+        public DiscordBotException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    @Value("${app.discord.bot.base-url:http://127.0.0.1:8000}")
+    private String baseUrl;
+
+    @Value("${app.discord.bot.connect-timeout-ms:1000}")
+    private long connectTimeoutMs;
+
+    @Value("${app.discord.bot.avatar-timeout-ms:2000}")
+    private long avatarTimeoutMs;
+
+    @Value("${app.discord.bot.check-member-timeout-ms:3000}")
+    private long checkMemberTimeoutMs;
+
+    @Value("${app.discord.bot.send-code-timeout-ms:5000}")
+    private long sendCodeTimeoutMs;
+
+    @Value("${app.discord.bot.sync-timeout-ms:30000}")
+    private long syncTimeoutMs;
+
+    @Value("${app.discord.bot.max-concurrent-calls:8}")
+    private int maxConcurrentCalls;
+
+    @Value("${app.discord.bot.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.discord.bot.retry.base-delay-ms:100}")
+    private long retryBaseDelayMs;
+
+    @Value("${app.discord.bot.retry.max-delay-ms:1000}")
+    private long retryMaxDelayMs;
+
+    @Value("${app.discord.bot.breaker-failure-threshold:5}")
+    private int breakerFailureThreshold;
+
+    @Value("${app.discord.bot.breaker-open-ms:30000}")
+    private long breakerOpenMs;
+
+    private HttpClient httpClient;
+    private final Map<Call, CallStats> stats = new EnumMap<>(Call.class);
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    // 0이면 닫힘, 그 외에는 열린 상태가 끝나는 시각
+    private volatile long breakerOpenUntil;
+    // 열린 시간이 지난 뒤 시험 호출이 진행 중인지 (half-open)
+    private final AtomicBoolean probing = new AtomicBoolean();
+
+    @PostConstruct
+    void init() {
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        for (Call call : Call.values()) {
+            // 전체 동기화는 무거우므로 한 번에 하나만
+            stats.put(call, new CallStats(call == Call.SYNC_ALL_MEMBERS ? 1 : maxConcurrentCalls));
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        httpClient.shutdownNow();
+    }
 
     public Map<String, Object> getAvatar(String discordTag) {
-        String url = BOT_BASE + "/get-avatar/" + discordTag;
-        return restTemplate.getForObject(url, Map.class);
+        return execute(Call.GET_AVATAR, get("/get-avatar/" + encode(discordTag), avatarTimeoutMs));
     }
 
     public Map<String, Object> checkMember(String discordTag) {
-        String url = BOT_BASE + "/check-member/" + discordTag;
-        return restTemplate.getForObject(url, Map.class);
+        return execute(Call.CHECK_MEMBER, get("/check-member/" + encode(discordTag), checkMemberTimeoutMs));
     }
 
     public Map<String, Object> sendCode(String discordTag, String code) {
-        String url = BOT_BASE + "/send-code";
         Map<String, String> body = new HashMap<>();
         body.put("discordTag", discordTag);
         body.put("code", code);
-        return restTemplate.postForObject(url, body, Map.class);
+        return execute(Call.SEND_CODE, post("/send-code", body, sendCodeTimeoutMs));
     }
 
     public Map<String, Object> syncAllMembers() {
-        String url = BOT_BASE + "/sync-all-members";
-        return restTemplate.getForObject(url, Map.class);
+        return execute(Call.SYNC_ALL_MEMBERS, get("/sync-all-members", syncTimeoutMs));
     }
-}
 
+    public DiscordBotMetricsResponse getMetrics() {
+        List<DiscordBotCallMetrics> calls = Arrays.stream(Call.values())
+                .map(call -> stats.get(call).snapshot(call))
+                .toList();
+        return new DiscordBotMetricsResponse(baseUrl, circuitState(), consecutiveFailures.get(), calls);
+    }
+
+    private Map<String, Object> execute(Call call, HttpRequest request) {
+        CallStats callStats = stats.get(call);
+        callStats.calls.increment();
+
+        if (!callStats.bulkhead.tryAcquire()) {
+            callStats.rejected.increment();
+            throw new DiscordBotException("too many concurrent discord bot calls: " + call);
+        }
+        try {
+            int attempts = call.idempotent ? Math.max(1, maxAttempts) : 1;
+            for (int attempt = 1; ; attempt++) {
+                if (!allowRequest()) {
+                    callStats.shortCircuited.increment();
+                    throw new DiscordBotException("discord bot circuit is open");
+                }
+
+                long startedAt = System.nanoTime();
+                try {
+                    HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+                    callStats.record(System.nanoTime() - startedAt);
+
+                    int status = response.statusCode();
+                    if (status >= 500) {
+                        onFailure();
+                        if (attempt < attempts) {
+                            callStats.retries.increment();
+                            backoff(attempt);
+                            continue;
+                        }
+                        callStats.failures.increment();
+                        throw new DiscordBotException("discord bot returned " + status + " for " + call);
+                    }
+
+                    // 4xx도 봇은 살아 있는 것이므로 회로에는 성공으로 반영
+                    onSuccess();
+                    if (status >= 400) {
+                        callStats.failures.increment();
+                        throw new DiscordBotException("discord bot returned " + status + " for " + call);
+                    }
+                    return parse(response.body());
+                } catch (IOException e) {
+                    callStats.record(System.nanoTime() - startedAt);
+                    onFailure();
+                    if (attempt < attempts) {
+                        callStats.retries.increment();
+                        backoff(attempt);
+                        continue;
+                    }
+                    callStats.failures.increment();
+                    String reason = e instanceof HttpTimeoutException ? "timed out" : "failed";
+                    throw new DiscordBotException("discord bot call " + reason + ": " + call, e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    probing.set(false);
+                    callStats.failures.increment();
+                    throw new DiscordBotException("discord bot call interrupted: " + call, e);
+                }
+            }
+        } finally {
+            callStats.bulkhead.release();
+        }
+    }
+
+    private Map<String, Object> parse(String body) {
+        if (body == null || body.isBlank()) {
+            return null;
+        }
+        try {
+            return MAPPER.readValue(body, MAP_TYPE);
+        } catch (IOException e) {
+            throw new DiscordBotException("invalid discord bot response", e);
+        }
+    }
+
+    // full jitter: 0 ~ min(max, base * 2^(attempt-1)) 사이에서 무작위로 대기
+    private void backoff(int attempt) {
+        long ceiling = Math.min(retryMaxDelayMs, retryBaseDelayMs << Math.min(attempt - 1, 20));
+        long delay = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DiscordBotException("discord bot retry interrupted", e);
+        }
+    }
+
+    private boolean allowRequest() {
+        long openUntil = breakerOpenUntil;
+        if (openUntil == 0) {
+            return true;
+        }
+        if (System.currentTimeMillis() < openUntil) {
+            return false;
+        }
+        return probing.compareAndSet(false, true);
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        breakerOpenUntil = 0;
+        probing.set(false);
+    }
+
+    private void onFailure() {
+        // 시험 호출이 실패하면 바로 다시 엽니다.
+        if (probing.getAndSet(false) || consecutiveFailures.incrementAndGet() >= breakerFailureThreshold) {
+            if (breakerOpenUntil == 0) {
+                log.warn("discord bot circuit opened for {} ms", breakerOpenMs);
+            }
+            breakerOpenUntil = System.currentTimeMillis() + breakerOpenMs;
+            consecutiveFailures.set(0);
+        }
+    }
+
+    private String circuitState() {
+        long openUntil = breakerOpenUntil;
+        if (openUntil == 0) {
+            return "CLOSED";
+        }
+        return System.currentTimeMillis() < openUntil ? "OPEN" : "HALF_OPEN";
+    }
+
+    private HttpRequest get(String path, long timeoutMs) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofMillis(timeoutMs))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, Object body, long timeoutMs) {
+        String json;
+        try {
+            json = MAPPER.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new DiscordBotException("failed to encode discord bot request", e);
+        }
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofMillis(timeoutMs))
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private String encode(String pathSegment) {
+        return UriUtils.encodePathSegment(pathSegment == null ? "" : pathSegment, StandardCharsets.UTF_8);
+    }
+
+    private static final class CallStats {
+        private final int maxConcurrent;
+        private final Semaphore bulkhead;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder shortCircuited = new LongAdder();
+        // 마지막 칸은 가장 큰 구간을 넘는 호출
+        private final AtomicLongArray buckets = new AtomicLongArray(LATENCY_BUCKETS_MS.length + 1);
+        private final LongAccumulator maxMs = new LongAccumulator(Math::max, 0);
+
+        CallStats(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+            this.bulkhead = new Semaphore(maxConcurrent);
+        }
+
+        void record(long elapsedNanos) {
+            long elapsedMs = elapsedNanos / 1_000_000;
+            int index = 0;
+            while (index < LATENCY_BUCKETS_MS.length && elapsedMs > LATENCY_BUCKETS_MS[index]) {
+                index++;
+            }
+            buckets.incrementAndGet(index);
+            maxMs.accumulate(elapsedMs);
+        }
+
+        DiscordBotCallMetrics snapshot(Call call) {
+            long[] counts = new long[buckets.length()];
+            long total = 0;
+            Map<String, Long> labeled = new LinkedHashMap<>();
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+                labeled.put(i < LATENCY_BUCKETS_MS.length ? "<=" + LATENCY_BUCKETS_MS[i] + "ms" : "+Inf", counts[i]);
+            }
+            long max = maxMs.get();
+            return new DiscordBotCallMetrics(
+                    call.name(),
+                    calls.sum(),
+                    failures.sum(),
+                    retries.sum(),
+                    rejected.sum(),
+                    shortCircuited.sum(),
+                    maxConcurrent - bulkhead.availablePermits(),
+                    maxConcurrent,
+                    percentile(counts, total, 0.50, max),
+                    percentile(counts, total, 0.95, max),
+                    percentile(counts, total, 0.99, max),
+                    max,
+                    labeled
+            );
+        }
+
+        // 해당 백분위가 속한 구간의 상한 (마지막 구간이면 관측된 최댓값)
+        private long percentile(long[] counts, long total, double quantile, long max) {
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(total * quantile);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return i < LATENCY_BUCKETS_MS.length ? Math.min(LATENCY_BUCKETS_MS[i], max) : max;
+                }
+            }
+            return max;
+        }
+    }
+}
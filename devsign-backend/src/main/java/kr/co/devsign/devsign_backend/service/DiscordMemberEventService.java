@@ -0,0 +1,390 @@
+package kr.co.devsign.devsign_backend.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.co.devsign.devsign_backend.dto.admin.DiscordMemberData;
+import kr.co.devsign.devsign_backend.dto.admin.DiscordMemberEvent;
+import kr.co.devsign.devsign_backend.dto.admin.DiscordMemberEventResponse;
+import kr.co.devsign.devsign_backend.dto.admin.DiscordSyncReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// ✨ 디스코드 회원 증분 동기화
+// 봇이 밀어 주는 변경 이벤트(별명/역할/아바타)를 eventId로 중복 제거한 뒤 discordTag별로 합쳐 두고,
+// coalesce-window-ms마다 바뀐 회원만 한 번에 반영합니다. 전체 목록 조회는 정기 재조정(reconcile)에서만 합니다.
+// eventId는 회원 변경과 같은 트랜잭션에서 기록하므로, 반영에 실패한 이벤트를 봇이 다시 보내면 중복으로 버려지지 않습니다.
+// 단, 수신 응답 후 반영 전에 서버가 비정상 종료되면 대기 중인 변경은 사라집니다(정상 종료 시에는 flush).
+// 이렇게 유실된 변경은 정기 재조정이 전체 목록과 비교해 메웁니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DiscordMemberEventService {
+
+    private static final int MAX_EVENT_ID_LENGTH = 64;
+
+    private static final String SELECT_PROCESSED_SQL =
+            "select event_id from processed_discord_event where event_id in (:ids)";
+
+    // 다른 서버 노드가 같은 이벤트를 먼저 반영했어도 패치는 멱등이므로 그대로 진행
+    private static final String INSERT_PROCESSED_SQL =
+            "insert ignore into processed_discord_event (event_id, received_at) values (?, ?)";
+
+    private static final String PURGE_PROCESSED_SQL =
+            "delete from processed_discord_event where received_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DiscordMemberSyncService discordMemberSyncService;
+    private final DiscordBotClient discordBotClient;
+    private final DiscordAvatarService discordAvatarService;
+    private final MemberProfileCache memberProfileCache;
+
+    // 봇과 공유하는 비밀값 (비워두면 이벤트 수신을 받지 않음)
+    @Value("${app.discord.events.secret:}")
+    private String secret;
+
+    @Value("${app.discord.events.max-batch-size:500}")
+    private int maxBatchSize;
+
+    // 반영 대기 회원 수가 이 값을 넘으면 주기를 기다리지 않고 바로 반영
+    @Value("${app.discord.events.max-pending:5000}")
+    private int maxPending;
+
+    @Value("${app.discord.events.retention-hours:72}")
+    private long retentionHours;
+
+    @Value("${app.discord.sync.reconcile-enabled:true}")
+    private boolean reconcileEnabled;
+
+    // discordTag -> 필드별 최신 값 (pendingLock으로 보호, flush 때 통째로 교체)
+    private Map<String, PendingMember> pending = new LinkedHashMap<>();
+    // 수신했지만 아직 DB에 기록되지 않은 eventId (pendingLock으로 보호)
+    private final Set<String> pendingEventIds = new HashSet<>();
+    private final Object pendingLock = new Object();
+
+    // 재조정의 봇 조회가 시작된 뒤 flush로 반영된 변경 (this로 보호, 재조정 중이 아니면 null)
+    private Map<String, PendingMember> flushedDuringReconcile;
+    // 재조정은 한 번에 하나만 (기록 구간이 겹치지 않도록)
+    private final Object reconcileLock = new Object();
+
+    // 봇 요청의 비밀값 확인
+    public void verifySecret(String provided) {
+        if (!StringUtils.hasText(secret)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "discord events are disabled");
+        }
+        if (provided == null || !MessageDigest.isEqual(
+                secret.getBytes(StandardCharsets.UTF_8), provided.getBytes(StandardCharsets.UTF_8))) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "invalid bot secret");
+        }
+    }
+
+    public DiscordMemberEventResponse accept(List<DiscordMemberEvent> events) {
+        if (events == null || events.isEmpty()) {
+            return new DiscordMemberEventResponse(0, 0, 0, pendingSize());
+        }
+        if (events.size() > maxBatchSize) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "at most " + maxBatchSize + " events per batch");
+        }
+
+        // 같은 배치 안에서 반복된 eventId도 중복으로 셉니다.
+        Map<String, DiscordMemberEvent> candidates = new LinkedHashMap<>();
+        int invalid = 0;
+        int duplicates = 0;
+        for (DiscordMemberEvent event : events) {
+            if (event == null || !StringUtils.hasText(event.eventId()) || event.eventId().length() > MAX_EVENT_ID_LENGTH
+                    || !StringUtils.hasText(event.discordTag())) {
+                invalid++;
+            } else if (candidates.putIfAbsent(event.eventId(), event) != null) {
+                duplicates++;
+            }
+        }
+
+        Set<String> processed = findProcessed(new ArrayList<>(candidates.keySet()));
+
+        long receivedAt = System.currentTimeMillis();
+        int accepted = 0;
+        int pendingSize;
+        synchronized (pendingLock) {
+            for (DiscordMemberEvent event : candidates.values()) {
+                // 이미 반영했거나, 받아 두고 아직 반영 전인 이벤트
+                if (processed.contains(event.eventId()) || !pendingEventIds.add(event.eventId())) {
+                    duplicates++;
+                    continue;
+                }
+                long occurredAt = event.occurredAt() != null ? event.occurredAt() : receivedAt;
+                pending.computeIfAbsent(event.discordTag(), tag -> new PendingMember())
+                        .merge(event, occurredAt);
+                accepted++;
+            }
+            pendingSize = pending.size();
+        }
+
+        if (pendingSize >= maxPending) {
+            scheduledFlush();
+            pendingSize = pendingSize();
+        }
+        return new DiscordMemberEventResponse(accepted, duplicates, invalid, pendingSize);
+    }
+
+    @Scheduled(fixedDelayString = "${app.discord.events.coalesce-window-ms:5000}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            // 반영하지 못한 변경은 대기열로 되돌려 다음 주기에 다시 반영합니다.
+            log.warn("discord member event flush failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        scheduledFlush();
+    }
+
+    // 대기 중인 변경을 한 번의 조회 + 배치 UPDATE로 반영하고, 같은 트랜잭션에서 eventId를 기록합니다.
+    public synchronized DiscordSyncReport flush() {
+        Map<String, PendingMember> batch;
+        synchronized (pendingLock) {
+            if (pending.isEmpty()) {
+                return null;
+            }
+            batch = pending;
+            pending = new LinkedHashMap<>();
+        }
+
+        List<DiscordMemberData> patches = toPatches(batch);
+        List<String> eventIds = batch.values().stream()
+                .flatMap(member -> member.eventIds.stream())
+                .toList();
+
+        DiscordSyncReport report;
+        try {
+            report = transactionTemplate.execute(status -> {
+                recordProcessed(eventIds);
+                return discordMemberSyncService.applyChanges(patches);
+            });
+        } catch (RuntimeException e) {
+            requeue(batch);
+            throw e;
+        }
+        synchronized (pendingLock) {
+            eventIds.forEach(pendingEventIds::remove);
+        }
+
+        for (DiscordMemberData patch : patches) {
+            if (patch.avatarUrl() != null) {
+                discordAvatarService.invalidate(patch.discordTag());
+            }
+        }
+        if (report.changed() > 0) {
+            memberProfileCache.invalidateAll();
+        }
+        if (flushedDuringReconcile != null) {
+            batch.forEach((tag, member) -> flushedDuringReconcile.merge(tag, member, PendingMember::mergeFrom));
+        }
+        return report;
+    }
+
+    // 이벤트 유실(봇 재시작, 반영 실패 등)을 메우기 위한 전체 목록 비교
+    // 봇 조회는 잠금 밖에서 하므로 그동안 flush된 이벤트가 조회 결과(스냅샷)보다 최신일 수 있습니다.
+    // 조회 시작 후 반영된 패치를 모아 두었다가 스냅샷 반영 직후 같은 잠금 안에서 다시 적용하고,
+    // 아직 대기 중인 이벤트도 이어서 반영합니다.
+    public DiscordSyncReport reconcile() {
+        synchronized (reconcileLock) {
+            synchronized (this) {
+                flushedDuringReconcile = new LinkedHashMap<>();
+            }
+            try {
+                return fetchAndSynchronize();
+            } finally {
+                synchronized (this) {
+                    flushedDuringReconcile = null;
+                }
+            }
+        }
+    }
+
+    private DiscordSyncReport fetchAndSynchronize() {
+        long fetchStartedAt = System.nanoTime();
+        Map<String, Object> botRes = discordBotClient.syncAllMembers();
+        long fetchMs = (System.nanoTime() - fetchStartedAt) / 1_000_000;
+
+        if (botRes == null || !"success".equals(botRes.get("status"))) {
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, String>> discordMembers = (List<Map<String, String>>) botRes.get("members");
+        List<DiscordMemberData> guildMembers = discordMembers.stream()
+                .map(d -> new DiscordMemberData(
+                        d.get("discordTag"),
+                        d.get("name"),
+                        d.get("studentId"),
+                        d.get("userStatus"),
+                        d.get("role"),
+                        d.get("avatarUrl")
+                ))
+                .toList();
+
+        DiscordSyncReport report;
+        synchronized (this) {
+            report = discordMemberSyncService.synchronize(guildMembers, fetchMs);
+            Map<String, PendingMember> newer = flushedDuringReconcile;
+            flushedDuringReconcile = null;
+            boolean changed = report.changed() > 0;
+            if (newer != null && !newer.isEmpty()) {
+                changed |= discordMemberSyncService.applyChanges(toPatches(newer)).changed() > 0;
+            }
+            if (changed) {
+                memberProfileCache.invalidateAll();
+            }
+            scheduledFlush();
+        }
+        return report;
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.discord.sync.reconcile-interval-ms:21600000}",
+            fixedDelayString = "${app.discord.sync.reconcile-interval-ms:21600000}"
+    )
+    public void scheduledReconcile() {
+        if (!reconcileEnabled) {
+            return;
+        }
+        try {
+            DiscordSyncReport report = reconcile();
+            if (report != null) {
+                log.info("discord reconcile: {} changed, {} unchanged, {} unmatched",
+                        report.changed(), report.unchanged(), report.unmatched());
+            }
+        } catch (Exception e) {
+            log.warn("discord reconcile failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.discord.events.purge-interval-ms:3600000}")
+    public void purgeProcessedEvents() {
+        try {
+            jdbcTemplate.update(PURGE_PROCESSED_SQL, Timestamp.valueOf(LocalDateTime.now().minusHours(retentionHours)));
+        } catch (Exception e) {
+            log.warn("processed discord event purge failed: {}", e.getMessage());
+        }
+    }
+
+    public int pendingSize() {
+        synchronized (pendingLock) {
+            return pending.size();
+        }
+    }
+
+    // 이미 반영된 eventId
+    private Set<String> findProcessed(List<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                SELECT_PROCESSED_SQL, Map.of("ids", eventIds), String.class));
+    }
+
+    private void recordProcessed(List<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_PROCESSED_SQL, eventIds, eventIds.size(), (ps, id) -> {
+            ps.setString(1, id);
+            ps.setTimestamp(2, now);
+        });
+    }
+
+    private List<DiscordMemberData> toPatches(Map<String, PendingMember> members) {
+        List<DiscordMemberData> patches = new ArrayList<>(members.size());
+        members.forEach((tag, member) -> patches.add(member.toPatch(tag)));
+        return patches;
+    }
+
+    private void requeue(Map<String, PendingMember> batch) {
+        synchronized (pendingLock) {
+            batch.forEach((tag, member) -> pending.merge(tag, member, PendingMember::mergeFrom));
+        }
+    }
+
+    private record Stamped(String value, long at) {
+    }
+
+    // 필드마다 occurredAt이 가장 늦은 값을 남깁니다. (이벤트 도착 순서가 뒤바뀌어도 최신 값 유지)
+    private static final class PendingMember {
+        // 이 회원에 합쳐진 이벤트들의 id (반영 시 함께 기록)
+        private final Set<String> eventIds = new HashSet<>();
+        private Stamped name;
+        private Stamped studentId;
+        private Stamped userStatus;
+        private Stamped role;
+        private Stamped avatarUrl;
+
+        void merge(DiscordMemberEvent event, long occurredAt) {
+            eventIds.add(event.eventId());
+            name = latest(name, event.name(), occurredAt);
+            studentId = latest(studentId, event.studentId(), occurredAt);
+            userStatus = latest(userStatus, event.userStatus(), occurredAt);
+            role = latest(role, event.role(), occurredAt);
+            avatarUrl = latest(avatarUrl, event.avatarUrl(), occurredAt);
+        }
+
+        PendingMember mergeFrom(PendingMember other) {
+            eventIds.addAll(other.eventIds);
+            name = latest(name, other.name);
+            studentId = latest(studentId, other.studentId);
+            userStatus = latest(userStatus, other.userStatus);
+            role = latest(role, other.role);
+            avatarUrl = latest(avatarUrl, other.avatarUrl);
+            return this;
+        }
+
+        DiscordMemberData toPatch(String discordTag) {
+            return new DiscordMemberData(
+                    discordTag,
+                    valueOf(name),
+                    valueOf(studentId),
+                    valueOf(userStatus),
+                    valueOf(role),
+                    valueOf(avatarUrl)
+            );
+        }
+
+        private static Stamped latest(Stamped current, String value, long at) {
+            return value == null ? current : latest(current, new Stamped(value, at));
+        }
+
+        private static Stamped latest(Stamped current, Stamped candidate) {
+            if (candidate == null) {
+                return current;
+            }
+            return current == null || candidate.at() >= current.at() ? candidate : current;
+        }
+
+        private static String valueOf(Stamped stamped) {
+            return stamped != null ? stamped.value() : null;
+        }
+    }
+}
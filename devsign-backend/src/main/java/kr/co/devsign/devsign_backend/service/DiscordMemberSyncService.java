@@ -0,0 +1,280 @@
+package kr.co.devsign.devsign_backend.service;
+
+import jakarta.transaction.Transactional;
+import kr.co.devsign.devsign_backend.dto.admin.DiscordMemberData;
+import kr.co.devsign.devsign_backend.dto.admin.DiscordSyncChange;
+import kr.co.devsign.devsign_backend.dto.admin.DiscordSyncReport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// ✨ 디스코드 서버 ↔ 회원 테이블 동기화 엔진
+// 회원을 한 번에 읽어 discordTag 기준으로 맞춰 보고, 실제로 값이 바뀐 행만 JDBC 배치로 갱신합니다.
+// synchronize = 전체 목록 비교(정기 재조정), applyChanges = 봇이 보낸 변경 이벤트만 반영(증분)
+@Service
+@RequiredArgsConstructor
+public class DiscordMemberSyncService {
+
+    // 보고서에 이름을 나열할 최대 개수 (건수는 전체를 셉니다)
+    private static final int MAX_LISTED = 50;
+
+    private static final String SELECT_SQL = """
+            select id, login_id, discord_tag, name, student_id, user_status, role, profile_image
+            from member
+            where discord_tag is not null and discord_tag <> ''
+            """;
+
+    private static final String SELECT_BY_TAGS_SQL = """
+            select id, login_id, discord_tag, name, student_id, user_status, role, profile_image
+            from member
+            where discord_tag in (:tags)
+            """;
+
+    private static final String UPDATE_SQL =
+            "update member set name = ?, student_id = ?, user_status = ?, role = ?, profile_image = ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Value("${app.discord.sync.batch-size:200}")
+    private int batchSize;
+
+    private record MemberRow(
+            long id,
+            String loginId,
+            String discordTag,
+            String name,
+            String studentId,
+            String userStatus,
+            String role,
+            String profileImage
+    ) {
+    }
+
+    private record PendingUpdate(MemberRow current, DiscordMemberData next) {
+    }
+
+    // 디스코드에서 받은 전체 목록과 비교해 바뀐 회원만 갱신합니다. (봇 호출은 트랜잭션 밖에서)
+    @Transactional
+    public DiscordSyncReport synchronize(List<DiscordMemberData> guildMembers, long fetchMs) {
+        long diffStartedAt = System.nanoTime();
+
+        Map<String, List<MemberRow>> membersByTag = new HashMap<>();
+        jdbcTemplate.query(SELECT_SQL, collectByTag(membersByTag));
+
+        // 같은 태그가 여러 번 오면 마지막 값을 사용
+        Map<String, DiscordMemberData> guildByTag = new LinkedHashMap<>();
+        for (DiscordMemberData member : guildMembers) {
+            if (member != null && member.discordTag() != null) {
+                guildByTag.put(member.discordTag(), member);
+            }
+        }
+
+        List<PendingUpdate> updates = new ArrayList<>();
+        List<DiscordSyncChange> changes = new ArrayList<>();
+        Map<String, Integer> changedFields = new LinkedHashMap<>();
+        List<String> unmatchedTags = new ArrayList<>();
+        int unmatched = 0;
+        int unchanged = 0;
+
+        for (DiscordMemberData next : guildByTag.values()) {
+            List<MemberRow> rows = membersByTag.get(next.discordTag());
+            if (rows == null) {
+                unmatched++;
+                addLimited(unmatchedTags, next.discordTag());
+                continue;
+            }
+            for (MemberRow row : rows) {
+                List<String> fields = diff(row, next);
+                if (fields.isEmpty()) {
+                    unchanged++;
+                    continue;
+                }
+                updates.add(new PendingUpdate(row, next));
+                fields.forEach(field -> changedFields.merge(field, 1, Integer::sum));
+                if (changes.size() < MAX_LISTED) {
+                    changes.add(new DiscordSyncChange(row.loginId(), row.discordTag(), fields));
+                }
+            }
+        }
+
+        List<String> missingLoginIds = new ArrayList<>();
+        int missing = 0;
+        for (Map.Entry<String, List<MemberRow>> entry : membersByTag.entrySet()) {
+            if (!guildByTag.containsKey(entry.getKey())) {
+                for (MemberRow row : entry.getValue()) {
+                    missing++;
+                    addLimited(missingLoginIds, row.loginId());
+                }
+            }
+        }
+        long diffMs = elapsedMs(diffStartedAt);
+
+        long applyStartedAt = System.nanoTime();
+        applyUpdates(updates);
+        long applyMs = elapsedMs(applyStartedAt);
+
+        return new DiscordSyncReport(
+                guildByTag.size(),
+                updates.size(),
+                unchanged,
+                unmatched,
+                missing,
+                changedFields,
+                changes,
+                unmatchedTags,
+                missingLoginIds,
+                fetchMs,
+                diffMs,
+                applyMs
+        );
+    }
+
+    // 변경 이벤트를 합친 결과만 반영합니다. 해당 태그의 회원만 읽고, null 필드는 현재 값을 유지합니다.
+    // 목록에 없는 회원은 건드리지 않으므로 missing은 항상 0입니다.
+    @Transactional
+    public DiscordSyncReport applyChanges(List<DiscordMemberData> patches) {
+        long diffStartedAt = System.nanoTime();
+
+        Map<String, DiscordMemberData> patchByTag = new LinkedHashMap<>();
+        for (DiscordMemberData patch : patches) {
+            if (patch != null && patch.discordTag() != null) {
+                patchByTag.put(patch.discordTag(), patch);
+            }
+        }
+
+        Map<String, List<MemberRow>> membersByTag = new HashMap<>();
+        List<String> tags = new ArrayList<>(patchByTag.keySet());
+        for (int from = 0; from < tags.size(); from += batchSize) {
+            List<String> chunk = tags.subList(from, Math.min(from + batchSize, tags.size()));
+            namedParameterJdbcTemplate.query(SELECT_BY_TAGS_SQL, Map.of("tags", chunk), collectByTag(membersByTag));
+        }
+
+        List<PendingUpdate> updates = new ArrayList<>();
+        List<DiscordSyncChange> changes = new ArrayList<>();
+        Map<String, Integer> changedFields = new LinkedHashMap<>();
+        List<String> unmatchedTags = new ArrayList<>();
+        int unmatched = 0;
+        int unchanged = 0;
+
+        for (DiscordMemberData patch : patchByTag.values()) {
+            List<MemberRow> rows = membersByTag.get(patch.discordTag());
+            if (rows == null) {
+                unmatched++;
+                addLimited(unmatchedTags, patch.discordTag());
+                continue;
+            }
+            for (MemberRow row : rows) {
+                DiscordMemberData next = new DiscordMemberData(
+                        row.discordTag(),
+                        patch.name() != null ? patch.name() : row.name(),
+                        patch.studentId() != null ? patch.studentId() : row.studentId(),
+                        patch.userStatus() != null ? patch.userStatus() : row.userStatus(),
+                        patch.role() != null ? patch.role() : row.role(),
+                        patch.avatarUrl() != null ? patch.avatarUrl() : row.profileImage()
+                );
+                List<String> fields = diff(row, next);
+                if (fields.isEmpty()) {
+                    unchanged++;
+                    continue;
+                }
+                updates.add(new PendingUpdate(row, next));
+                fields.forEach(field -> changedFields.merge(field, 1, Integer::sum));
+                if (changes.size() < MAX_LISTED) {
+                    changes.add(new DiscordSyncChange(row.loginId(), row.discordTag(), fields));
+                }
+            }
+        }
+        long diffMs = elapsedMs(diffStartedAt);
+
+        long applyStartedAt = System.nanoTime();
+        applyUpdates(updates);
+        long applyMs = elapsedMs(applyStartedAt);
+
+        return new DiscordSyncReport(
+                patchByTag.size(),
+                updates.size(),
+                unchanged,
+                unmatched,
+                0,
+                changedFields,
+                changes,
+                unmatchedTags,
+                List.of(),
+                0,
+                diffMs,
+                applyMs
+        );
+    }
+
+    private RowCallbackHandler collectByTag(Map<String, List<MemberRow>> membersByTag) {
+        return rs -> {
+            MemberRow row = new MemberRow(
+                    rs.getLong("id"),
+                    rs.getString("login_id"),
+                    rs.getString("discord_tag"),
+                    rs.getString("name"),
+                    rs.getString("student_id"),
+                    rs.getString("user_status"),
+                    rs.getString("role"),
+                    rs.getString("profile_image")
+            );
+            membersByTag.computeIfAbsent(row.discordTag(), tag -> new ArrayList<>()).add(row);
+        };
+    }
+
+    private void applyUpdates(List<PendingUpdate> updates) {
+        for (int from = 0; from < updates.size(); from += batchSize) {
+            List<PendingUpdate> chunk = updates.subList(from, Math.min(from + batchSize, updates.size()));
+            jdbcTemplate.batchUpdate(UPDATE_SQL, chunk, chunk.size(), (ps, update) -> {
+                DiscordMemberData next = update.next();
+                ps.setString(1, next.name());
+                ps.setString(2, next.studentId());
+                ps.setString(3, next.userStatus());
+                ps.setString(4, next.role());
+                ps.setString(5, next.avatarUrl());
+                ps.setLong(6, update.current().id());
+            });
+        }
+    }
+
+    private List<String> diff(MemberRow row, DiscordMemberData next) {
+        List<String> fields = new ArrayList<>();
+        if (!Objects.equals(row.name(), next.name())) {
+            fields.add("name");
+        }
+        if (!Objects.equals(row.studentId(), next.studentId())) {
+            fields.add("studentId");
+        }
+        if (!Objects.equals(row.userStatus(), next.userStatus())) {
+            fields.add("userStatus");
+        }
+        if (!Objects.equals(row.role(), next.role())) {
+            fields.add("role");
+        }
+        if (!Objects.equals(row.profileImage(), next.avatarUrl())) {
+            fields.add("profileImage");
+        }
+        return fields;
+    }
+
+    private void addLimited(List<String> values, String value) {
+        if (values.size() < MAX_LISTED) {
+            values.add(value);
+        }
+    }
+
+    private long elapsedMs(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
+}
@@ -2,13 +2,13 @@ package kr.co.devsign.devsign_backend.service;
 
 import kr.co.devsign.devsign_backend.entity.Event;
 import kr.co.devsign.devsign_backend.entity.EventLike;
-import kr.co.devsign.devsign_backend.entity.EventView;
 import kr.co.devsign.devsign_backend.entity.Member;
 import kr.co.devsign.devsign_backend.repository.EventLikeRepository;
 import kr.co.devsign.devsign_backend.repository.EventRepository;
 import kr.co.devsign.devsign_backend.repository.EventViewRepository;
 import kr.co.devsign.devsign_backend.repository.MemberRepository;
 import kr.co.devsign.devsign_backend.dto.common.StatusResponse;
+import kr.co.devsign.devsign_backend.dto.member.MemberProfile;
 import kr.co.devsign.devsign_backend.dto.event.EventDetailResponse;
 import kr.co.devsign.devsign_backend.dto.event.EventLikeResponse;
 import kr.co.devsign.devsign_backend.dto.event.EventRequest;
@@ -30,6 +30,9 @@ public class EventService {
     private final EventLikeRepository eventLikeRepository;
 
     private final AccessLogService accessLogService;
+    private final MediaStorageService mediaStorageService;
+    private final MemberProfileCache memberProfileCache;
+    private final ViewCountService viewCountService;
 
     public List<EventResponse> getAllEvents() {
         return eventRepository.findAll().stream()
@@ -44,7 +47,7 @@ public class EventService {
         event.setDate(payload.date());
         event.setLocation(payload.location());
         event.setContent(payload.content());
-        event.setImage(payload.image());
+        event.setImage(mediaStorageService.toReference(payload.image()));
         event.setViews(0);
         event.setLikes(0);
 
@@ -62,7 +65,7 @@ public class EventService {
         event.setDate(payload.date());
         event.setLocation(payload.location());
         event.setContent(payload.content());
-        event.setImage(payload.image());
+        event.setImage(mediaStorageService.toReference(payload.image()));
 
         accessLogService.logByLoginId(loginId, "EVENT_UPDATE", ip);
         return toEventResponse(eventRepository.save(event));
@@ -75,21 +78,11 @@ public class EventService {
         boolean isLiked = false;
 
         if (loginId != null && !loginId.isBlank()) {
-            Optional<Member> memberOpt = memberRepository.findByLoginId(loginId);
-            if (memberOpt.isPresent()) {
-                Member member = memberOpt.get();
-
-                if (!eventViewRepository.existsByMemberAndEvent(member, event)) {
-                    event.setViews(event.getViews() + 1);
-                    eventRepository.save(event);
-
-                    EventView view = new EventView();
-                    view.setMember(member);
-                    view.setEvent(event);
-                    eventViewRepository.save(view);
-                }
-
-                isLiked = eventLikeRepository.existsByMemberAndEvent(member, event);
+            Optional<MemberProfile> member = memberProfileCache.get(loginId);
+            if (member.isPresent()) {
+                Long memberId = member.get().id();
+                viewCountService.recordView(ViewCountService.ViewTarget.EVENT, event.getId(), memberId);
+                isLiked = eventLikeRepository.existsByMemberAndEvent(memberRepository.getReferenceById(memberId), event);
             }
         }
 
@@ -149,8 +142,8 @@ public class EventService {
                 event.getDate(),
                 event.getLocation(),
                 event.getContent(),
-                event.getImage(),
-                event.getViews(),
+                mediaStorageService.toUrl(event.getImage()),
+                event.getViews() + viewCountService.pendingViews(ViewCountService.ViewTarget.EVENT, event.getId()),
                 event.getLikes()
         );
     }
@@ -0,0 +1,96 @@
+package kr.co.devsign.devsign_backend.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// ✨ 좋아요 테이블 (회원, 대상) 유니크 제약 보장
+// ddl-auto=update는 중복 행이 이미 있으면 제약 생성에 실패하고 로그만 남기므로,
+// 제약이 없을 때만 중복 행을 정리(가장 작은 id만 남김)하고 제약을 만든 뒤 likes 카운터를 다시 계산합니다.
+// insert ignore 기반 좋아요 토글은 이 제약이 있어야 중복을 막을 수 있습니다.
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class LikeIntegrityService {
+
+    private record LikeTable(String table, String targetColumn, String constraintName, String targetTable) {
+    }
+
+    private static final List<LikeTable> LIKE_TABLES = List.of(
+            new LikeTable("post_likes", "post_id", "uk_post_likes_member_post", "post"),
+            new LikeTable("comment_likes", "comment_id", "uk_comment_likes_member_comment", "comment")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void ensureUniqueLikes() {
+        for (LikeTable likeTable : LIKE_TABLES) {
+            try {
+                if (!hasUniqueIndex(likeTable)) {
+                    repair(likeTable);
+                }
+            } catch (Exception e) {
+                // 다른 노드가 동시에 제약을 만든 경우 등: 다음 기동 때 다시 확인
+                log.warn("like table {} integrity check failed: {}", likeTable.table(), e.getMessage());
+            }
+        }
+    }
+
+    private void repair(LikeTable likeTable) {
+        int removed = transactionTemplate.execute(status -> {
+            int deleted = jdbcTemplate.update(
+                    "delete from " + likeTable.table() + " where id not in ("
+                            + "select id from (select min(id) as id from " + likeTable.table()
+                            + " group by member_id, " + likeTable.targetColumn() + ") keep_rows)"
+            );
+            jdbcTemplate.update(
+                    "update " + likeTable.targetTable() + " t set likes = ("
+                            + "select count(*) from " + likeTable.table() + " l where l." + likeTable.targetColumn() + " = t.id)"
+            );
+            return deleted;
+        });
+
+        // DDL은 MySQL에서 암묵적으로 커밋되므로 정리 트랜잭션과 분리합니다.
+        jdbcTemplate.execute(
+                "alter table " + likeTable.table() + " add constraint " + likeTable.constraintName()
+                        + " unique (member_id, " + likeTable.targetColumn() + ")"
+        );
+        log.info("like table {}: removed {} duplicate rows, added {}, recounted likes",
+                likeTable.table(), removed, likeTable.constraintName());
+    }
+
+    // 이름과 무관하게 (member_id, 대상 id) 두 컬럼으로 된 유니크 인덱스가 있는지 확인
+    private boolean hasUniqueIndex(LikeTable likeTable) {
+        Set<String> expected = Set.of("member_id", likeTable.targetColumn());
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            Map<String, Set<String>> columnsByIndex = new HashMap<>();
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), likeTable.table(), true, false)) {
+                while (rs.next()) {
+                    String indexName = rs.getString("INDEX_NAME");
+                    String column = rs.getString("COLUMN_NAME");
+                    if (indexName != null && column != null) {
+                        columnsByIndex.computeIfAbsent(indexName, key -> new HashSet<>()).add(column.toLowerCase());
+                    }
+                }
+            }
+            return columnsByIndex.values().stream().anyMatch(expected::equals);
+        }));
+    }
+}
@@ -0,0 +1,56 @@
+package kr.co.devsign.devsign_backend.service;
+
+import kr.co.devsign.devsign_backend.repository.CommentLikeRepository;
+import kr.co.devsign.devsign_backend.repository.PostLikeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 게시글 상세의 "내가 좋아요 눌렀는지" 표시를 댓글 수와 무관하게 쿼리 2번으로 계산합니다.
+@Component
+@RequiredArgsConstructor
+public class LikedStatusResolver {
+
+    private final PostLikeRepository postLikeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+
+    public LikedStatus resolve(Long postId, Long memberId) {
+        if (postId == null || memberId == null) {
+            return LikedStatus.NONE;
+        }
+
+        boolean postLiked = postLikeRepository.existsByMemberIdAndPostId(memberId, postId);
+        List<Long> commentIds = commentLikeRepository.findLikedCommentIds(memberId, postId);
+
+        long[] sorted = new long[commentIds.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = commentIds.get(i);
+        }
+        Arrays.sort(sorted);
+        return new LikedStatus(postLiked, sorted);
+    }
+
+    // 좋아요 누른 댓글 id는 정렬된 long 배열로 보관 (박싱 없는 이진 탐색)
+    public static final class LikedStatus {
+
+        public static final LikedStatus NONE = new LikedStatus(false, new long[0]);
+
+        private final boolean postLiked;
+        private final long[] likedCommentIds;
+
+        private LikedStatus(boolean postLiked, long[] likedCommentIds) {
+            this.postLiked = postLiked;
+            this.likedCommentIds = likedCommentIds;
+        }
+
+        public boolean isPostLiked() {
+            return postLiked;
+        }
+
+        public boolean isCommentLiked(Long commentId) {
+            return commentId != null && Arrays.binarySearch(likedCommentIds, commentId) >= 0;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package kr.co.devsign.devsign_backend.service;
+
+import kr.co.devsign.devsign_backend.dto.admin.MediaMigrationResponse;
+import kr.co.devsign.devsign_backend.entity.Comment;
+import kr.co.devsign.devsign_backend.entity.Event;
+import kr.co.devsign.devsign_backend.entity.Member;
+import kr.co.devsign.devsign_backend.entity.Notice;
+import kr.co.devsign.devsign_backend.entity.Post;
+import kr.co.devsign.devsign_backend.repository.CommentRepository;
+import kr.co.devsign.devsign_backend.repository.EventRepository;
+import kr.co.devsign.devsign_backend.repository.MemberRepository;
+import kr.co.devsign.devsign_backend.repository.NoticeRepository;
+import kr.co.devsign.devsign_backend.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+// LONGTEXT 컬럼에 남아 있는 기존 Base64 이미지를 블롭 저장소로 옮기는 일회성 마이그레이션
+// 엔티티별로 batch-size 단위 트랜잭션을 나눠 처리하므로 한 번에 전체 행을 메모리에 올리지 않습니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MediaMigrationService {
+
+    private final MemberRepository memberRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final NoticeRepository noticeRepository;
+    private final EventRepository eventRepository;
+    private final MediaStorageService mediaStorageService;
+    private final PlatformTransactionManager transactionManager;
+    private final MemberProfileCache memberProfileCache;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${app.media.migration-batch-size:50}")
+    private int batchSize;
+
+    public MediaMigrationResponse migrateInlineImages() {
+        if (!running.compareAndSet(false, true)) {
+            return new MediaMigrationResponse("fail", "migration already running", 0, 0, 0, 0, 0);
+        }
+
+        // 배치마다 커밋되므로, 중간에 실패해도 이미 커밋된 건수를 그대로 돌려줍니다.
+        MigrationTotals totals = new MigrationTotals();
+        try {
+            migrate(memberRepository, this::migrateMember, changed -> totals.members += changed);
+            memberProfileCache.invalidateAll();
+            migrate(postRepository, this::migratePost, changed -> totals.posts += changed);
+            migrate(commentRepository, this::migrateComment, changed -> totals.comments += changed);
+            migrate(noticeRepository, this::migrateNotice, changed -> totals.notices += changed);
+            migrate(eventRepository, this::migrateEvent, changed -> totals.events += changed);
+            return totals.toResponse("success", null);
+        } catch (Exception e) {
+            log.error("media migration failed (committed so far: {})", totals, e);
+            if (totals.members > 0) {
+                memberProfileCache.invalidateAll();
+            }
+            return totals.toResponse("error", "migration failed: " + e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 변환된 행은 id가 바뀌지 않으므로 id 정렬 페이지 순회가 안전합니다.
+    // onCommitted는 배치 트랜잭션이 커밋된 뒤에만 호출됩니다.
+    private <T> void migrate(JpaRepository<T, Long> repository, Predicate<T> converter, IntConsumer onCommitted) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        int page = 0;
+        BatchResult result;
+
+        do {
+            int pageNumber = page++;
+            result = tx.execute(status -> {
+                Page<T> rows = repository.findAll(PageRequest.of(pageNumber, batchSize, Sort.by("id")));
+                int changed = 0;
+                for (T row : rows) {
+                    if (converter.test(row)) {
+                        repository.save(row);
+                        changed++;
+                    }
+                }
+                return new BatchResult(changed, rows.hasNext());
+            });
+            onCommitted.accept(result.changed());
+        } while (result.hasNext());
+    }
+
+    private record BatchResult(int changed, boolean hasNext) {
+    }
+
+    private static class MigrationTotals {
+        private int members;
+        private int posts;
+        private int comments;
+        private int notices;
+        private int events;
+
+        private MediaMigrationResponse toResponse(String status, String message) {
+            return new MediaMigrationResponse(status, message, members, posts, comments, notices, events);
+        }
+
+        @Override
+        public String toString() {
+            return "members=" + members + ", posts=" + posts + ", comments=" + comments
+                    + ", notices=" + notices + ", events=" + events;
+        }
+    }
+
+    // 이미지가 아니거나 깨진 Base64는 그대로 두고 나머지 이전을 계속합니다.
+    private String reference(String value) {
+        try {
+            return mediaStorageService.toReference(value);
+        } catch (ResponseStatusException e) {
+            return value;
+        }
+    }
+
+    private List<String> references(List<String> values) {
+        return values == null ? null : values.stream().map(this::reference).toList();
+    }
+
+    private boolean migrateMember(Member member) {
+        String image = reference(member.getProfileImage());
+        if (Objects.equals(image, member.getProfileImage())) {
+            return false;
+        }
+        member.setProfileImage(image);
+        return true;
+    }
+
+    private boolean migratePost(Post post) {
+        boolean changed = false;
+
+        String profileImage = reference(post.getProfileImage());
+        if (!Objects.equals(profileImage, post.getProfileImage())) {
+            post.setProfileImage(profileImage);
+            changed = true;
+        }
+
+        List<String> images = references(post.getImages());
+        if (!Objects.equals(images, post.getImages())) {
+            post.setImages(new ArrayList<>(images));
+            changed = true;
+        }
+        return changed;
+    }
+
+    private boolean migrateComment(Comment comment) {
+        String image = reference(comment.getProfileImage());
+        if (Objects.equals(image, comment.getProfileImage())) {
+            return false;
+        }
+        comment.setProfileImage(image);
+        return true;
+    }
+
+    private boolean migrateNotice(Notice notice) {
+        List<String> images = references(notice.getImages());
+        if (Objects.equals(images, notice.getImages())) {
+            return false;
+        }
+        notice.setImages(new ArrayList<>(images));
+        return true;
+    }
+
+    private boolean migrateEvent(Event event) {
+        String image = reference(event.getImage());
+        if (Objects.equals(image, event.getImage())) {
+            return false;
+        }
+        event.setImage(image);
+        return true;
+    }
+}
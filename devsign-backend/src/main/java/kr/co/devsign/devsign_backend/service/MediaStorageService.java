@@ -0,0 +1,234 @@
+package kr.co.devsign.devsign_backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+// Base64 이미지를 SHA-256 해시 기반 파일로 저장하는 블롭 저장소
+// 엔티티에는 해시만 저장하고, 응답 시 /api/media/{hash} URL로 변환합니다.
+// 이미지(png/jpeg/gif/webp)만 매직 바이트로 확인해 저장하고, 확인된 타입은 {hash}.type 파일에 함께 기록합니다.
+@Service
+public class MediaStorageService {
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("^[0-9a-f]{64}$");
+    private static final String MEDIA_PATH = "/api/media/";
+    private static final String TYPE_SUFFIX = ".type";
+
+    // 타입 판별에 필요한 앞부분 바이트 수 (webp: RIFF....WEBP)
+    private static final int SIGNATURE_LENGTH = 12;
+
+    @Value("${app.upload.base-dir:uploads}")
+    private String uploadBaseDir;
+
+    @Value("${app.media.public-base-url:}")
+    private String publicBaseUrl;
+
+    // 엔티티에 저장할 값으로 변환: data URI(Base64)는 저장 후 해시로, 자체 미디어 URL은 해시로,
+    // 그 외(외부 URL 등)는 그대로 반환
+    public String toReference(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        int mediaPath = value.lastIndexOf(MEDIA_PATH);
+        if (mediaPath >= 0 && isHash(value.substring(mediaPath + MEDIA_PATH.length()))) {
+            return value.substring(mediaPath + MEDIA_PATH.length());
+        }
+
+        if (!isInlineData(value)) {
+            return value;
+        }
+
+        int comma = value.indexOf(',');
+        byte[] data;
+        try {
+            data = Base64.getMimeDecoder().decode(value.substring(comma + 1));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid base64 image data");
+        }
+        return store(data);
+    }
+
+    public List<String> toReferences(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        return values.stream().map(this::toReference).toList();
+    }
+
+    // 허용된 이미지가 아니면 400 (API 도메인에서 HTML/SVG 등이 서빙되지 않도록)
+    public String store(byte[] data) {
+        MediaType type = detectImageType(data)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "only png, jpeg, gif and webp images are allowed"));
+
+        String hash = sha256(data);
+        Path target = resolvePath(hash);
+
+        try {
+            Files.createDirectories(target.getParent());
+            // 타입 기록을 먼저 남겨 blob이 보이는 시점에는 항상 타입도 있게 합니다.
+            writeAtomically(typePath(target), type.toString().getBytes(StandardCharsets.US_ASCII));
+            if (!Files.exists(target)) {
+                writeAtomically(target, data);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("media store failed", e);
+        }
+        return hash;
+    }
+
+    // 저장 시 확인된 타입 (기록이 없는 기존 파일은 매직 바이트를 다시 확인해 기록), 이미지가 아니면 empty
+    public Optional<MediaType> findImageType(Path path) {
+        Path typePath = typePath(path);
+        try {
+            if (Files.isRegularFile(typePath)) {
+                MediaType recorded = MediaType.parseMediaType(Files.readString(typePath, StandardCharsets.US_ASCII).trim());
+                return isAllowedImageType(recorded) ? Optional.of(recorded) : Optional.empty();
+            }
+
+            byte[] header;
+            try (InputStream in = Files.newInputStream(path)) {
+                header = in.readNBytes(SIGNATURE_LENGTH);
+            }
+            Optional<MediaType> detected = detectImageType(header);
+            if (detected.isPresent()) {
+                writeAtomically(typePath, detected.get().toString().getBytes(StandardCharsets.US_ASCII));
+            }
+            return detected;
+        } catch (IOException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public Optional<Path> find(String hash) {
+        if (!isHash(hash)) {
+            return Optional.empty();
+        }
+        Path path = resolvePath(hash);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    // 해시면 미디어 URL로, 그 외(기존 Base64/외부 URL)는 그대로 반환
+    public String toUrl(String value) {
+        if (!isHash(value)) {
+            return value;
+        }
+        return resolvePublicBaseUrl() + MEDIA_PATH + value;
+    }
+
+    public List<String> toUrls(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        return values.stream().map(this::toUrl).toList();
+    }
+
+    public boolean isInlineData(String value) {
+        if (value == null || !value.startsWith("data:")) {
+            return false;
+        }
+        int comma = value.indexOf(',');
+        return comma > 0 && value.substring(0, comma).endsWith(";base64");
+    }
+
+    public boolean isHash(String value) {
+        return value != null && HASH_PATTERN.matcher(value).matches();
+    }
+
+    private String resolvePublicBaseUrl() {
+        if (StringUtils.hasText(publicBaseUrl)) {
+            return publicBaseUrl.endsWith("/") ? publicBaseUrl.substring(0, publicBaseUrl.length() - 1) : publicBaseUrl;
+        }
+        if (RequestContextHolder.getRequestAttributes() != null) {
+            return ServletUriComponentsBuilder.fromCurrentContextPath().build().toUriString();
+        }
+        return "";
+    }
+
+    private Optional<MediaType> detectImageType(byte[] data) {
+        if (startsWith(data, 0, new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'})) {
+            return Optional.of(MediaType.IMAGE_PNG);
+        }
+        if (startsWith(data, 0, new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF})) {
+            return Optional.of(MediaType.IMAGE_JPEG);
+        }
+        if (startsWith(data, 0, "GIF87a".getBytes(StandardCharsets.US_ASCII))
+                || startsWith(data, 0, "GIF89a".getBytes(StandardCharsets.US_ASCII))) {
+            return Optional.of(MediaType.IMAGE_GIF);
+        }
+        if (startsWith(data, 0, "RIFF".getBytes(StandardCharsets.US_ASCII))
+                && startsWith(data, 8, "WEBP".getBytes(StandardCharsets.US_ASCII))) {
+            return Optional.of(MediaType.parseMediaType("image/webp"));
+        }
+        return Optional.empty();
+    }
+
+    private boolean isAllowedImageType(MediaType type) {
+        return type.equals(MediaType.IMAGE_PNG) || type.equals(MediaType.IMAGE_JPEG)
+                || type.equals(MediaType.IMAGE_GIF) || type.toString().equals("image/webp");
+    }
+
+    private boolean startsWith(byte[] data, int offset, byte[] signature) {
+        return data.length >= offset + signature.length
+                && Arrays.equals(data, offset, offset + signature.length, signature, 0, signature.length);
+    }
+
+    private void writeAtomically(Path target, byte[] data) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, data);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // 동시에 같은 내용이 저장된 경우: 이미 존재하는 파일을 그대로 사용
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path typePath(Path blobPath) {
+        return blobPath.resolveSibling(blobPath.getFileName() + TYPE_SUFFIX);
+    }
+
+    private Path resolvePath(String hash) {
+        return getMediaBasePath().resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private Path getMediaBasePath() {
+        Path configured = Paths.get(uploadBaseDir);
+        if (!configured.isAbsolute()) {
+            configured = Paths.get(System.getProperty("user.dir")).resolve(configured);
+        }
+        return configured.toAbsolutePath().normalize().resolve("media");
+    }
+
+    private String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
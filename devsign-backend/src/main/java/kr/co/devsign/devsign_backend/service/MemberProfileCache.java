@@ -0,0 +1,96 @@
+package kr.co.devsign.devsign_backend.service;
+
+import kr.co.devsign.devsign_backend.dto.member.MemberProfile;
+import kr.co.devsign.devsign_backend.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// loginId -> 작성자 프로필(이름/학번/프로필 이미지) 캐시
+// 게시글/댓글 응답 조립 시 행마다 복사된 프로필 대신 사용합니다. (LRU + TTL)
+@Component
+@RequiredArgsConstructor
+public class MemberProfileCache {
+
+    private final MemberRepository memberRepository;
+
+    @Value("${app.cache.member-profile.max-size:2000}")
+    private int maxSize;
+
+    @Value("${app.cache.member-profile.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private final Map<String, CachedProfile> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedProfile> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    public Optional<MemberProfile> get(String loginId) {
+        if (loginId == null || loginId.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(getAll(List.of(loginId)).get(loginId));
+    }
+
+    // 캐시에 없는 loginId는 한 번의 IN 쿼리로 모아서 조회합니다.
+    public Map<String, MemberProfile> getAll(Collection<String> loginIds) {
+        Map<String, MemberProfile> result = new HashMap<>();
+        Set<String> misses = new HashSet<>();
+        long now = System.currentTimeMillis();
+
+        synchronized (cache) {
+            for (String loginId : loginIds) {
+                if (loginId == null || result.containsKey(loginId)) {
+                    continue;
+                }
+                CachedProfile cached = cache.get(loginId);
+                if (cached != null && cached.expiresAt() > now) {
+                    result.put(loginId, cached.profile());
+                } else {
+                    misses.add(loginId);
+                }
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            List<MemberProfile> loaded = memberRepository.findProfilesByLoginIdIn(misses);
+            long expiresAt = System.currentTimeMillis() + ttlSeconds * 1000;
+            synchronized (cache) {
+                for (MemberProfile profile : loaded) {
+                    cache.put(profile.loginId(), new CachedProfile(profile, expiresAt));
+                    result.put(profile.loginId(), profile);
+                }
+            }
+        }
+        return result;
+    }
+
+    public void invalidate(String loginId) {
+        if (loginId == null) {
+            return;
+        }
+        synchronized (cache) {
+            cache.remove(loginId);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private record CachedProfile(MemberProfile profile, long expiresAt) {
+    }
+}
@@ -1,10 +1,8 @@
 package kr.co.devsign.devsign_backend.service;
 
 import jakarta.servlet.http.HttpServletRequest;
-import kr.co.devsign.devsign_backend.entity.AccessLog;
 import kr.co.devsign.devsign_backend.entity.DiscordAuth;
 import kr.co.devsign.devsign_backend.entity.Member;
-import kr.co.devsign.devsign_backend.repository.AccessLogRepository;
 import kr.co.devsign.devsign_backend.repository.DiscordAuthRepository;
 import kr.co.devsign.devsign_backend.repository.MemberRepository;
 import kr.co.devsign.devsign_backend.util.JwtUtil;
@@ -27,9 +25,7 @@ import kr.co.devsign.devsign_backend.dto.member.VerifyIdPwRequest;
 import kr.co.devsign.devsign_backend.dto.member.VerifyIdPwResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -40,23 +36,19 @@ import java.util.Optional;
 @Service
 @RequiredArgsConstructor
 public class MemberService {
-    private static final String DEFAULT_AVATAR_URL = "https://cdn.discordapp.com/embed/avatars/0.png";
 
     @Autowired
     private JwtUtil jwtUtil;
 
-    @Autowired
-    private AccessLogRepository accessLogRepository;
-
-    @Autowired
-    private RestTemplate restTemplate;
-
     private final MemberRepository memberRepository;
     private final DiscordAuthRepository discordAuthRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
 
     private final AccessLogService accessLogService;
     private final DiscordBotClient discordBotClient;
+    private final DiscordAvatarService discordAvatarService;
+    private final MediaStorageService mediaStorageService;
+    private final MemberProfileCache memberProfileCache;
 
     public MemberResponse signup(SignupRequest payload, String ip) {
         String authCode = payload.authCode();
@@ -68,7 +60,7 @@ public class MemberService {
 
         Member member = new Member();
         member.setLoginId(payload.loginId());
-        member.setPassword(passwordEncoder.encode(payload.password()));
+        member.setPassword(passwordHashingService.encode(payload.password()));
         member.setDept(payload.dept());
         member.setInterests(payload.interests());
 
@@ -95,10 +87,14 @@ public class MemberService {
     }
 
     public LoginResponse login(LoginRequest loginRequest, HttpServletRequest request) {
+        // ✨ BCrypt는 전용 실행기에서 검증 (시도 횟수 초과, 대기열 초과 시 429)
+        passwordHashingService.checkRateLimit(request.getRemoteAddr(), loginRequest.loginId());
         Optional<Member> memberOpt = memberRepository.findByLoginId(loginRequest.loginId());
 
-        if (memberOpt.isPresent() && passwordEncoder.matches(loginRequest.password(), memberOpt.get().getPassword())) {
+        if (memberOpt.isPresent() && passwordHashingService.matches(loginRequest.password(), memberOpt.get().getPassword())) {
             Member m = memberOpt.get();
+            passwordHashingService.recordSuccess(loginRequest.loginId());
+            passwordHashingService.rehashIfNeeded(m.getId(), loginRequest.password(), m.getPassword());
 
             if (m.isDeleted()) {
                 return new LoginResponse(
@@ -132,24 +128,15 @@ public class MemberService {
                 );
             }
 
-            String token = jwtUtil.generateToken(m.getLoginId(), m.getRole());
-
-            AccessLog log = new AccessLog();
-            log.setName(m.getName());
-            log.setStudentId(m.getStudentId());
-            log.setType("LOGIN");
-            log.setIp(request.getRemoteAddr());
-            accessLogRepository.save(log);
-
-            String avatarUrl = DEFAULT_AVATAR_URL;
-            try {
-                String botUrl = "http://127.0.0.1:8000/get-avatar/" + m.getDiscordTag();
-                Map<String, Object> botResponse = restTemplate.getForObject(botUrl, Map.class);
-                if (botResponse != null && "success".equals(botResponse.get("status"))) {
-                    avatarUrl = asString(botResponse.get("avatarUrl"));
-                }
-            } catch (Exception ignored) {
-            }
+            String token = jwtUtil.generateToken(m.getLoginId(), m.getRole(), m.getTokenVersion());
+
+            accessLogService.logByMember(m, "LOGIN", request.getRemoteAddr());
+
+            // ✨ 봇을 기다리지 않고 캐시된 아바타(없으면 저장된 프로필 이미지, 그것도 없으면 기본값)를 사용, 갱신은 백그라운드에서
+            String avatarUrl = discordAvatarService.getAvatarUrl(
+                    m.getDiscordTag(),
+                    mediaStorageService.toUrl(m.getProfileImage())
+            );
 
             return new LoginResponse(
                     "success",
@@ -166,6 +153,7 @@ public class MemberService {
             );
         }
 
+        passwordHashingService.recordFailure(loginRequest.loginId());
         return new LoginResponse(
                 "fail",
                 "invalid credentials",
@@ -208,6 +196,7 @@ public class MemberService {
         member.setDept(updateData.dept());
         member.setDiscordTag(newDiscordTag);
         memberRepository.save(member);
+        memberProfileCache.invalidate(member.getLoginId());
 
         return StatusResponse.success();
     }
@@ -219,12 +208,15 @@ public class MemberService {
             return StatusResponse.fail("member not found");
         }
 
+        passwordHashingService.checkRateLimit(null, loginId);
         Member member = memberOpt.get();
-        if (!passwordEncoder.matches(request.currentPassword(), member.getPassword())) {
+        if (!passwordHashingService.matches(request.currentPassword(), member.getPassword())) {
+            passwordHashingService.recordFailure(loginId);
             return StatusResponse.fail("current password mismatch");
         }
+        passwordHashingService.recordSuccess(loginId);
 
-        member.setPassword(passwordEncoder.encode(request.newPassword()));
+        member.setPassword(passwordHashingService.encode(request.newPassword()));
         memberRepository.save(member);
 
         return StatusResponse.success();
@@ -258,7 +250,7 @@ public class MemberService {
         }
 
         Member member = memberOpt.get();
-        member.setPassword(passwordEncoder.encode(request.newPassword()));
+        member.setPassword(passwordHashingService.encode(request.newPassword()));
         memberRepository.save(member);
 
         return StatusResponse.success();
@@ -360,7 +352,7 @@ public class MemberService {
                 member.getUserStatus(),
                 member.getRole(),
                 member.isSuspended(),
-                member.getProfileImage()
+                mediaStorageService.toUrl(member.getProfileImage())
         );
     }
 
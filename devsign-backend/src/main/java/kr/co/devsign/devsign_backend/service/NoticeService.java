@@ -1,8 +1,6 @@
 package kr.co.devsign.devsign_backend.service;
 
-import kr.co.devsign.devsign_backend.entity.Member;
 import kr.co.devsign.devsign_backend.entity.Notice;
-import kr.co.devsign.devsign_backend.entity.NoticeView;
 import kr.co.devsign.devsign_backend.repository.MemberRepository;
 import kr.co.devsign.devsign_backend.repository.NoticeRepository;
 import kr.co.devsign.devsign_backend.repository.NoticeViewRepository;
@@ -18,7 +16,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +25,9 @@ public class NoticeService {
     private final MemberRepository memberRepository;
     private final NoticeViewRepository noticeViewRepository;
     private final AccessLogService accessLogService;
+    private final MediaStorageService mediaStorageService;
+    private final MemberProfileCache memberProfileCache;
+    private final ViewCountService viewCountService;
 
     public List<NoticeResponse> getAllNotices() {
         return noticeRepository.findAll(Sort.by(Sort.Order.desc("pinned"), Sort.Order.desc("id"))).stream()
@@ -64,7 +64,7 @@ public class NoticeService {
         notice.setCategory(category);
         notice.setTag(category);
 
-        notice.setImages(payload.images());
+        notice.setImages(mediaStorageService.toReferences(payload.images()));
         notice.setImportant(Boolean.TRUE.equals(payload.important()));
         notice.setViews(0);
         notice.setDate(LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy.MM.dd")));
@@ -92,7 +92,7 @@ public class NoticeService {
         notice.setCategory(category);
         notice.setTag(category);
 
-        notice.setImages(payload.images());
+        notice.setImages(mediaStorageService.toReferences(payload.images()));
         notice.setImportant(Boolean.TRUE.equals(payload.important()));
 
         accessLogService.logByLoginId(loginId, "NOTICE_UPDATE", ip);
@@ -104,20 +104,8 @@ public class NoticeService {
                 .orElseThrow(() -> new RuntimeException("notice not found"));
 
         if (loginId != null) {
-            Optional<Member> memberOpt = memberRepository.findByLoginId(loginId);
-            if (memberOpt.isPresent()) {
-                Member member = memberOpt.get();
-
-                if (!noticeViewRepository.existsByMemberAndNotice(member, notice)) {
-                    notice.setViews(notice.getViews() + 1);
-                    noticeRepository.save(notice);
-
-                    NoticeView view = new NoticeView();
-                    view.setMember(member);
-                    view.setNotice(notice);
-                    noticeViewRepository.save(view);
-                }
-            }
+            memberProfileCache.get(loginId).ifPresent(member ->
+                    viewCountService.recordView(ViewCountService.ViewTarget.NOTICE, notice.getId(), member.id()));
         }
 
         return toNoticeResponse(notice);
@@ -143,9 +131,9 @@ public class NoticeService {
                 notice.getTitle(),
                 notice.getContent(),
                 notice.getAuthor(),
-                notice.getViews(),
+                notice.getViews() + viewCountService.pendingViews(ViewCountService.ViewTarget.NOTICE, notice.getId()),
                 notice.getDate(),
-                notice.getImages(),
+                mediaStorageService.toUrls(notice.getImages()),
                 notice.isImportant(),
                 notice.isPinned(),
                 notice.getCreatedAt()
@@ -0,0 +1,211 @@
+package kr.co.devsign.devsign_backend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// ✨ BCrypt 해시/검증 전용 실행기
+// CPU를 많이 쓰는 BCrypt를 코어 수만큼의 전용 스레드에서만 돌리고, 대기열이 차면 바로 429로 거절합니다.
+// 로그인 폭주 때도 Tomcat 스레드는 (스레드 수 + 대기열) 만큼만 묶이므로 일반 조회 요청이 밀리지 않습니다.
+// IP별 분당 시도 횟수와 아이디별 분당 실패 횟수도 여기서 제한합니다.
+// 아이디는 실패만 세고 성공하면 초기화하므로, 남이 틀린 비밀번호를 보내는 것만으로는 본인 로그인을 오래 막을 수 없습니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PasswordHashingService {
+
+    private static final long RATE_WINDOW_MS = 60_000;
+
+    // 다른 요청이 그 사이 비밀번호를 바꿨다면 덮어쓰지 않습니다.
+    private static final String REHASH_SQL = "update member set password = ? where id = ? and password = ?";
+
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 0이면 사용 가능한 코어 수
+    @Value("${app.security.password.threads:0}")
+    private int threads;
+
+    @Value("${app.security.password.queue-capacity:64}")
+    private int queueCapacity;
+
+    // 대기열에서 이 시간 안에 끝나지 않으면 429
+    @Value("${app.security.password.timeout-ms:5000}")
+    private long timeoutMs;
+
+    // 같은 NAT 뒤의 여러 회원이 함께 쓰는 한도라서 요청량 상한 용도로만 크게 잡습니다.
+    @Value("${app.security.login.max-attempts-per-ip:300}")
+    private int maxAttemptsPerIp;
+
+    @Value("${app.security.login.max-failures-per-login-id:10}")
+    private int maxFailuresPerLoginId;
+
+    private final Map<String, RateWindow> ipWindows = new ConcurrentHashMap<>();
+    private final Map<String, RateWindow> loginIdFailures = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    // 검증 전 호출: IP는 시도마다 세고, 아이디는 최근 실패 횟수만 확인합니다. (ip/loginId 중 null은 건너뜀)
+    public void checkRateLimit(String ip, String loginId) {
+        long now = System.currentTimeMillis();
+        if (ip != null && !acquire(ipWindows, ip, maxAttemptsPerIp, now)) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "too many attempts from this address");
+        }
+        if (loginId != null && isLocked(loginId, now)) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "too many failed attempts for this account");
+        }
+    }
+
+    // 비밀번호가 틀렸을 때
+    public void recordFailure(String loginId) {
+        if (loginId != null) {
+            acquire(loginIdFailures, loginId, maxFailuresPerLoginId, System.currentTimeMillis());
+        }
+    }
+
+    // 비밀번호가 맞았을 때: 그 아이디의 실패 횟수 초기화
+    public void recordSuccess(String loginId) {
+        if (loginId != null) {
+            loginIdFailures.remove(loginId);
+        }
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+        return call(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return call(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    // 로그인 성공 후 호출: 설정된 cost보다 낮은 해시면 백그라운드에서 다시 해시해 저장합니다.
+    // 실행기가 바쁘면 건너뛰고 다음 로그인 때 다시 시도합니다.
+    public void rehashIfNeeded(Long memberId, String rawPassword, String encodedPassword) {
+        if (memberId == null || encodedPassword == null || !passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    String upgraded = passwordEncoder.encode(rawPassword);
+                    jdbcTemplate.update(REHASH_SQL, upgraded, memberId, encodedPassword);
+                } catch (Exception e) {
+                    log.warn("password rehash failed for member {}: {}", memberId, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException ignored) {
+            // 로그인 폭주 중에는 재해시보다 검증을 우선합니다.
+        }
+    }
+
+    // 지난 윈도우 정리
+    @Scheduled(fixedDelayString = "${app.security.login.rate-cleanup-interval-ms:60000}")
+    public void evictExpiredWindows() {
+        long now = System.currentTimeMillis();
+        ipWindows.values().removeIf(window -> window.isExpired(now));
+        loginIdFailures.values().removeIf(window -> window.isExpired(now));
+    }
+
+    private <T> T call(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "too many password checks in progress");
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "password check timed out");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while checking password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private boolean acquire(Map<String, RateWindow> windows, String key, int limit, long now) {
+        if (limit <= 0) {
+            return true;
+        }
+        RateWindow window = windows.compute(key, (k, current) ->
+                current == null || current.isExpired(now) ? new RateWindow(now) : current);
+        return window.count.incrementAndGet() <= limit;
+    }
+
+    private boolean isLocked(String loginId, long now) {
+        if (maxFailuresPerLoginId <= 0) {
+            return false;
+        }
+        RateWindow window = loginIdFailures.get(loginId);
+        return window != null && !window.isExpired(now) && window.count.get() >= maxFailuresPerLoginId;
+    }
+
+    // 고정 윈도우 카운터 (1분)
+    private static final class RateWindow {
+        private final long startedAt;
+        private final AtomicInteger count = new AtomicInteger();
+
+        RateWindow(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - startedAt >= RATE_WINDOW_MS;
+        }
+    }
+}
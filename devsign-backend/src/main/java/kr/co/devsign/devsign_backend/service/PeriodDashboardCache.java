@@ -0,0 +1,137 @@
+package kr.co.devsign.devsign_backend.service;
+
+import kr.co.devsign.devsign_backend.dto.admin.AdminPeriodResponse;
+import kr.co.devsign.devsign_backend.dto.assembly.MonthlySubmissionCount;
+import kr.co.devsign.devsign_backend.entity.AssemblyPeriod;
+import kr.co.devsign.devsign_backend.repository.AssemblyPeriodRepository;
+import kr.co.devsign.devsign_backend.repository.AssemblyReportRepository;
+import kr.co.devsign.devsign_backend.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// 연도별 제출 기간 대시보드(기간 설정 + 월별 제출 수 + 전체 회원 수) 캐시
+// 관리자 기간 탭과 학생 제출 기간 조회가 같은 스냅샷을 쓰고, 제출/기간 저장 시 무효화됩니다. (짧은 TTL)
+@Component
+@RequiredArgsConstructor
+public class PeriodDashboardCache {
+
+    private static final int[] ACTIVE_MONTHS = new int[]{3, 4, 5, 6, 9, 10, 11, 12};
+    private static final String SUBMITTED = "SUBMITTED";
+
+    private final AssemblyPeriodRepository assemblyPeriodRepository;
+    private final AssemblyReportRepository assemblyReportRepository;
+    private final MemberRepository memberRepository;
+
+    @Value("${app.cache.period-dashboard.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    private final Map<Integer, CachedDashboard> cache = new ConcurrentHashMap<>();
+    // 조회 도중 무효화되면 그 결과는 캐시에 넣지 않습니다.
+    private final AtomicLong generation = new AtomicLong();
+
+    public List<AdminPeriodResponse> get(int year) {
+        long now = System.currentTimeMillis();
+        CachedDashboard cached = cache.get(year);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.periods();
+        }
+
+        long loadedGeneration = generation.get();
+        List<AdminPeriodResponse> periods = load(year);
+        if (generation.get() == loadedGeneration) {
+            cache.put(year, new CachedDashboard(periods, System.currentTimeMillis() + ttlSeconds * 1000));
+        }
+        return periods;
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 후에 한 번 더 비워, 커밋 전 값이 다시 캐시되는 것을 막습니다.
+    public void invalidateAll() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        }
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    private List<AdminPeriodResponse> load(int year) {
+        Map<Integer, AssemblyPeriod> periodByMonth = assemblyPeriodRepository.findByYearOrderByMonthAsc(year).stream()
+                .collect(Collectors.toMap(AssemblyPeriod::getMonth, p -> p, (a, b) -> a));
+
+        Map<Integer, Long> submittedByMonth = new HashMap<>();
+        for (MonthlySubmissionCount row : assemblyReportRepository.countByYearAndStatusGroupByMonth(year, SUBMITTED)) {
+            // 월로 정해지는 학기와 다르게 저장된 행은 기존 월별 count 쿼리처럼 세지 않습니다.
+            if (row.semester() == semesterOf(row.month())) {
+                submittedByMonth.put(row.month(), row.count());
+            }
+        }
+
+        long totalCount = memberRepository.countByDeletedFalse();
+
+        return Arrays.stream(ACTIVE_MONTHS)
+                .mapToObj(month -> {
+                    AssemblyPeriod period = periodByMonth.get(month);
+
+                    String type = period != null && StringUtils.hasText(period.getType())
+                            ? period.getType()
+                            : resolveType(month);
+                    LocalDate startDate = period != null && period.getStartDate() != null
+                            ? period.getStartDate()
+                            : LocalDate.of(year, month, 1);
+                    LocalDate endDate = period != null && period.getEndDate() != null
+                            ? period.getEndDate()
+                            : LocalDate.of(year, month, 28);
+
+                    return new AdminPeriodResponse(
+                            period != null ? period.getId() : null,
+                            month,
+                            year,
+                            semesterOf(month),
+                            type,
+                            startDate.toString(),
+                            endDate.toString(),
+                            submittedByMonth.getOrDefault(month, 0L),
+                            totalCount
+                    );
+                })
+                .toList();
+    }
+
+    private int semesterOf(int month) {
+        return month <= 6 ? 1 : 2;
+    }
+
+    private String resolveType(int month) {
+        if (month == 3 || month == 9) {
+            return "PLAN";
+        }
+        if (month == 6 || month == 12) {
+            return "RESULT";
+        }
+        return "PROGRESS";
+    }
+
+    private record CachedDashboard(List<AdminPeriodResponse> periods, long expiresAt) {
+    }
+}
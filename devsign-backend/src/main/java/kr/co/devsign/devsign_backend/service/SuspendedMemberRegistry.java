@@ -0,0 +1,139 @@
+package kr.co.devsign.devsign_backend.service;
+
+import jakarta.annotation.PostConstruct;
+import kr.co.devsign.devsign_backend.dto.member.MemberSuspensionState;
+import kr.co.devsign.devsign_backend.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// 정지 회원/토큰 버전 메모리 레지스트리
+// UserStatusInterceptor가 요청마다 회원 행을 조회하지 않도록 시작 시 적재하고,
+// 관리자 정지/삭제/복구 시 즉시 갱신합니다. (다른 서버 노드의 변경은 주기적 재적재로 반영)
+// 읽기는 불변 스냅샷 하나만 보므로 잠금이 없고, 변경은 새 스냅샷을 만들어 한 번에 바꿔 끼웁니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SuspendedMemberRegistry {
+
+    // 토큰 버전은 0보다 큰 회원만 보관 (정지된 적 있는 회원)
+    private record Snapshot(Set<String> suspendedLoginIds, Map<String, Integer> tokenVersions) {
+    }
+
+    private final MemberRepository memberRepository;
+
+    private final Object reloadLock = new Object();
+
+    private volatile Snapshot snapshot = new Snapshot(Set.of(), Map.of());
+
+    // 전체 재적재 중에 들어온 개별 변경 (loginId -> 새 상태, 비어 있으면 제거). this로 보호
+    private Map<String, Optional<MemberSuspensionState>> changesDuringReload;
+
+    @PostConstruct
+    void load() {
+        reloadAll();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.security.suspension-refresh-ms:60000}",
+            initialDelayString = "${app.security.suspension-refresh-ms:60000}"
+    )
+    public void scheduledReload() {
+        try {
+            reloadAll();
+        } catch (Exception e) {
+            log.warn("suspended member reload failed: {}", e.getMessage());
+        }
+    }
+
+    public void reloadAll() {
+        synchronized (reloadLock) {
+            synchronized (this) {
+                changesDuringReload = new LinkedHashMap<>();
+            }
+            try {
+                List<MemberSuspensionState> states = memberRepository.findSuspensionStates();
+
+                Set<String> suspended = new HashSet<>();
+                Map<String, Integer> versions = new HashMap<>();
+                for (MemberSuspensionState state : states) {
+                    apply(state, suspended, versions);
+                }
+
+                // 조회 결과보다 최신인, 조회 도중의 변경을 다시 덮어쓴 뒤 교체
+                synchronized (this) {
+                    changesDuringReload.forEach((loginId, state) -> {
+                        suspended.remove(loginId);
+                        versions.remove(loginId);
+                        state.ifPresent(s -> apply(s, suspended, versions));
+                    });
+                    snapshot = new Snapshot(Set.copyOf(suspended), Map.copyOf(versions));
+                }
+            } finally {
+                synchronized (this) {
+                    changesDuringReload = null;
+                }
+            }
+        }
+    }
+
+    // 다른 노드에서 상태가 바뀐 것으로 보이는 회원 한 명만 다시 읽습니다.
+    public void reload(String loginId) {
+        if (loginId == null) {
+            return;
+        }
+        memberRepository.findSuspensionStateByLoginId(loginId)
+                .ifPresentOrElse(this::update, () -> remove(loginId));
+    }
+
+    public void update(MemberSuspensionState state) {
+        replace(state.loginId(), Optional.of(state));
+    }
+
+    public void remove(String loginId) {
+        if (loginId == null) {
+            return;
+        }
+        replace(loginId, Optional.empty());
+    }
+
+    public boolean isSuspended(String loginId) {
+        return loginId != null && snapshot.suspendedLoginIds().contains(loginId);
+    }
+
+    public int tokenVersion(String loginId) {
+        return loginId == null ? 0 : snapshot.tokenVersions().getOrDefault(loginId, 0);
+    }
+
+    // 정지/복구는 드물어서 변경마다 스냅샷을 복사해도 부담이 없습니다.
+    private synchronized void replace(String loginId, Optional<MemberSuspensionState> state) {
+        Set<String> suspended = new HashSet<>(snapshot.suspendedLoginIds());
+        Map<String, Integer> versions = new HashMap<>(snapshot.tokenVersions());
+        suspended.remove(loginId);
+        versions.remove(loginId);
+        state.ifPresent(s -> apply(s, suspended, versions));
+        snapshot = new Snapshot(Set.copyOf(suspended), Map.copyOf(versions));
+
+        if (changesDuringReload != null) {
+            changesDuringReload.put(loginId, state);
+        }
+    }
+
+    private void apply(MemberSuspensionState state, Set<String> suspended, Map<String, Integer> versions) {
+        if (state.suspended()) {
+            suspended.add(state.loginId());
+        }
+        if (state.tokenVersion() > 0) {
+            versions.put(state.loginId(), state.tokenVersion());
+        }
+    }
+}
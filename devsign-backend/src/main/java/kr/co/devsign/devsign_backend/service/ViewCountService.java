@@ -0,0 +1,218 @@
+package kr.co.devsign.devsign_backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// ✨ 게시글/공지/행사 조회수 write-behind 카운터
+// 첫 조회는 메모리에서 중복 제거 후 LongAdder에 누적하고,
+// 주기적으로 views = views + ? 배치 UPDATE와 조회 기록 배치 INSERT로 한 번에 반영합니다.
+// 요청 스레드는 DB를 조회하지 않습니다. 이미 DB에 기록된 조회인지는 flush에서 대상 유형별 한 번의 SELECT로 걸러내므로,
+// 최근 캐시에 없는 재조회는 flush 전까지 응답의 조회수에 잠시 +1로 보일 수 있습니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+    public enum ViewTarget {
+        POST("post", "post_views", "post_id"),
+        NOTICE("notice", "notice_view", "notice_id"),
+        EVENT("event", "event_view", "event_id");
+
+        private final String table;
+        private final String viewTable;
+        private final String column;
+
+        ViewTarget(String table, String viewTable, String column) {
+            this.table = table;
+            this.viewTable = viewTable;
+            this.column = column;
+        }
+    }
+
+    private record ViewKey(ViewTarget target, Long targetId, Long memberId) {}
+
+    private record CounterKey(ViewTarget target, Long targetId) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.views.recent-cache-size:10000}")
+    private int recentCacheSize;
+
+    // 아직 DB에 기록되지 않은 조회 (flush 전까지 중복 조회 차단)
+    private final Set<ViewKey> pendingViews = ConcurrentHashMap.newKeySet();
+
+    // 최근 반영된 조회 (같은 회원의 재조회를 메모리에서 바로 걸러내기 위한 LRU)
+    private final Map<ViewKey, Boolean> recentViews = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ViewKey, Boolean> eldest) {
+            return size() > recentCacheSize;
+        }
+    };
+
+    // pendingViews의 키 하나당 1씩 (flush 후 0이 되면 항목을 제거)
+    // 증가/감소를 compute 안에서 해서, 0이 된 항목 제거와 새 증가가 엇갈려 유실되지 않게 합니다.
+    private final ConcurrentHashMap<CounterKey, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+
+    // 메모리 기준 첫 조회일 때만 카운트하고 true를 반환합니다. (DB 기준 중복은 flush에서 제외)
+    public boolean recordView(ViewTarget target, Long targetId, Long memberId) {
+        if (targetId == null || memberId == null) {
+            return false;
+        }
+
+        ViewKey key = new ViewKey(target, targetId, memberId);
+        if (isRecentlyViewed(key)) {
+            return false;
+        }
+
+        // 카운트를 먼저 올린 뒤 pending에 등록해, flush가 본 pending 키는 항상 카운트에 포함되어 있도록 합니다.
+        CounterKey counterKey = new CounterKey(target, targetId);
+        adjustPendingCount(counterKey, 1);
+        if (!pendingViews.add(key)) {
+            adjustPendingCount(counterKey, -1);
+            return false;
+        }
+        return true;
+    }
+
+    // 아직 flush되지 않은 조회수 (응답의 views에 더해서 보여줌)
+    public int pendingViews(ViewTarget target, Long targetId) {
+        LongAdder adder = pendingCounts.get(new CounterKey(target, targetId));
+        return adder == null ? 0 : (int) adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${app.views.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            // 실패한 조회/카운트는 메모리에 남아 다음 주기에 다시 반영됩니다.
+            log.warn("view count flush failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        scheduledFlush();
+    }
+
+    public synchronized void flush() {
+        List<ViewKey> views = new ArrayList<>(pendingViews);
+        if (views.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (ViewTarget target : ViewTarget.values()) {
+                List<ViewKey> fresh = withoutRecorded(target, views);
+                Map<CounterKey, Long> deltas = new LinkedHashMap<>();
+                for (ViewKey view : fresh) {
+                    deltas.merge(new CounterKey(view.target(), view.targetId()), 1L, Long::sum);
+                }
+                insertViews(target, fresh);
+                updateCounts(target, deltas);
+            }
+        });
+
+        // 커밋 이후에만 메모리 상태를 비웁니다. (반영 중 들어온 조회는 그대로 남음)
+        for (ViewKey view : views) {
+            rememberView(view);
+            pendingViews.remove(view);
+            adjustPendingCount(new CounterKey(view.target(), view.targetId()), -1);
+        }
+    }
+
+    private void adjustPendingCount(CounterKey key, long delta) {
+        pendingCounts.compute(key, (k, adder) -> {
+            LongAdder current = adder != null ? adder : new LongAdder();
+            current.add(delta);
+            return current.sum() == 0 ? null : current;
+        });
+    }
+
+    // 이미 DB에 기록된 조회를 제외 (대상 유형별 한 번의 SELECT, 다른 노드/재시작 전 조회 포함)
+    private List<ViewKey> withoutRecorded(ViewTarget target, List<ViewKey> views) {
+        List<ViewKey> candidates = views.stream().filter(view -> view.target() == target).toList();
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        Set<Long> memberIds = new HashSet<>();
+        Set<Long> targetIds = new HashSet<>();
+        for (ViewKey view : candidates) {
+            memberIds.add(view.memberId());
+            targetIds.add(view.targetId());
+        }
+        Set<ViewKey> recorded = new HashSet<>();
+        namedParameterJdbcTemplate.query(
+                "select member_id, " + target.column + " as target_id from " + target.viewTable
+                        + " where member_id in (:memberIds) and " + target.column + " in (:targetIds)",
+                Map.of("memberIds", memberIds, "targetIds", targetIds),
+                rs -> {
+                    recorded.add(new ViewKey(target, rs.getLong("target_id"), rs.getLong("member_id")));
+                }
+        );
+        return candidates.stream().filter(view -> !recorded.contains(view)).toList();
+    }
+
+    // 삭제된 게시글/회원에 대한 기록은 SELECT 결과가 비어 자연스럽게 건너뜁니다.
+    private void insertViews(ViewTarget target, List<ViewKey> views) {
+        List<Object[]> args = views.stream()
+                .filter(view -> view.target() == target)
+                .map(view -> new Object[]{view.memberId(), view.targetId()})
+                .toList();
+        if (args.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                "insert into " + target.viewTable + " (member_id, " + target.column + ") "
+                        + "select m.id, t.id from member m, " + target.table + " t where m.id = ? and t.id = ?",
+                args
+        );
+    }
+
+    private void updateCounts(ViewTarget target, Map<CounterKey, Long> deltas) {
+        List<Object[]> args = deltas.entrySet().stream()
+                .filter(entry -> entry.getKey().target() == target)
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey().targetId()})
+                .toList();
+        if (args.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                "update " + target.table + " set views = views + ? where id = ?",
+                args
+        );
+    }
+
+    private boolean isRecentlyViewed(ViewKey key) {
+        synchronized (recentViews) {
+            return recentViews.containsKey(key);
+        }
+    }
+
+    private void rememberView(ViewKey key) {
+        synchronized (recentViews) {
+            recentViews.put(key, Boolean.TRUE);
+        }
+    }
+}
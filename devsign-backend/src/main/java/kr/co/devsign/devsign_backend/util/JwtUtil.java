@@ -1,15 +1,20 @@
 package kr.co.devsign.devsign_backend.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JwtUtil {
@@ -20,84 +25,148 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private Long expiration;
 
-    // SecretKey 생성 헬퍼 메서드
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    // 검증된 토큰 캐시 최대 크기 (서명 구간 기준, 토큰 만료 시각까지만 유지)
+    @Value("${app.jwt.claims-cache.max-size:10000}")
+    private int claimsCacheMaxSize;
+
+    // 필터에서 한 번 검증한 Claims를 컨트롤러까지 전달하는 요청 속성 이름
+    public static final String CLAIMS_ATTRIBUTE = JwtUtil.class.getName() + ".CLAIMS";
+
+    // 서명 키와 파서는 불변이므로 시작 시 한 번만 생성해서 재사용
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    // 서명이 같아도 헤더/본문이 다르면 다른 토큰이므로 원본 토큰 문자열을 함께 비교합니다.
+    private record CachedClaims(String token, Claims claims, long expiresAt) {}
+
+    // 요청마다 조회되므로 전역 잠금 없는 ConcurrentHashMap 사용 (LRU 대신 크기 초과 시 만료분 → 임의 항목 순으로 정리)
+    private final Map<String, CachedClaims> claimsCache = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
+    // 토큰 버전 클레임 이름 (정지 시 올라가는 Member.tokenVersion)
+    public static final String TOKEN_VERSION_CLAIM = "tv";
+
     // JWT 토큰 생성
     public String generateToken(String loginId, String role) {
+        return generateToken(loginId, role, 0);
+    }
+
+    public String generateToken(String loginId, String role, int tokenVersion) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
                 .subject(loginId)
                 .claim("role", role)
+                .claim(TOKEN_VERSION_CLAIM, tokenVersion)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    // 서명/만료 검증 후 Claims 반환 (유효하지 않으면 null)
+    // 같은 토큰은 만료 전까지 캐시된 결과를 사용해 HMAC 검증과 파싱을 반복하지 않습니다.
+    public Claims parseClaims(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        String key = signatureOf(token);
+        long now = System.currentTimeMillis();
+        CachedClaims cached = key != null ? claimsCache.get(key) : null;
+        if (cached != null) {
+            if (cached.expiresAt() > now && cached.token().equals(token)) {
+                return cached.claims();
+            }
+            claimsCache.remove(key, cached);
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+
+        if (key != null && claims.getExpiration() != null) {
+            if (claimsCache.size() >= claimsCacheMaxSize) {
+                evict(now);
+            }
+            claimsCache.put(key, new CachedClaims(token, claims, claims.getExpiration().getTime()));
+        }
+        return claims;
+    }
+
+    // 요청 단위 Claims: 필터에서 저장한 값을 우선 사용하고, 없으면 헤더에서 한 번만 파싱해 저장
+    public Claims resolveClaims(HttpServletRequest request) {
+        Object attribute = request.getAttribute(CLAIMS_ATTRIBUTE);
+        if (attribute instanceof Claims claims) {
+            return claims;
+        }
+
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return null;
+        }
+
+        Claims claims = parseClaims(authHeader.substring(7));
+        if (claims != null) {
+            request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+        }
+        return claims;
+    }
+
     // 토큰에서 loginId 추출
     public String getLoginIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getSubject();
+        Claims claims = parseClaims(token);
+        return claims != null ? claims.getSubject() : null;
     }
 
     // 토큰에서 role 추출
     public String getRoleFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.get("role", String.class);
+        Claims claims = parseClaims(token);
+        return claims != null ? claims.get("role", String.class) : null;
     }
 
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return parseClaims(token) != null;
     }
 
     // 토큰 만료 확인
     public boolean isTokenExpired(String token) {
-        try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-
-            return claims.getExpiration().before(new Date());
-        } catch (JwtException | IllegalArgumentException e) {
-            return true;
-        }
+        Claims claims = parseClaims(token);
+        return claims == null || claims.getExpiration().before(new Date());
     }
 
     // HttpServletRequest에서 loginId 추출 (컨트롤러 편의 메서드)
     public String getLoginIdFromRequest(HttpServletRequest request) {
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-            if (validateToken(token)) {
-                return getLoginIdFromToken(token);
-            }
+        Claims claims = resolveClaims(request);
+        return claims != null ? claims.getSubject() : null;
+    }
+
+    // header.payload.signature 중 서명 구간 (HMAC 결과라 토큰마다 다르고, 따로 해시할 필요가 없음)
+    private String signatureOf(String token) {
+        int lastDot = token.lastIndexOf('.');
+        return lastDot > 0 && lastDot < token.length() - 1 ? token.substring(lastDot + 1) : null;
+    }
+
+    // 가득 찰 때마다 정리하지 않도록 90%까지 줄입니다.
+    private void evict(long now) {
+        claimsCache.values().removeIf(cached -> cached.expiresAt() <= now);
+        int target = claimsCacheMaxSize - Math.max(1, claimsCacheMaxSize / 10);
+        Iterator<String> keys = claimsCache.keySet().iterator();
+        while (claimsCache.size() > target && keys.hasNext()) {
+            keys.next();
+            keys.remove();
         }
-        return null;
     }
 }
@@ -0,0 +1,108 @@
+package kr.co.devsign.devsign_backend;
+
+import jakarta.persistence.EntityManagerFactory;
+import kr.co.devsign.devsign_backend.dto.admin.AdminPeriodSubmissionResponse;
+import kr.co.devsign.devsign_backend.entity.AssemblyReport;
+import kr.co.devsign.devsign_backend.entity.Member;
+import kr.co.devsign.devsign_backend.repository.AssemblyReportRepository;
+import kr.co.devsign.devsign_backend.repository.MemberRepository;
+import kr.co.devsign.devsign_backend.service.AdminService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 제출 목록 조회의 쿼리 수가 제출 건수와 무관하게 일정한지 확인 (N+1 회귀 방지)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class AdminSubmittedMembersQueryTest {
+
+    // 실제 데이터와 겹치지 않는 연도
+    private static final int YEAR = 1999;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private AssemblyReportRepository assemblyReportRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void queryCountDoesNotGrowWithSubmissions() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        submit(1, 4, 1);
+        long singleSubmission = countStatements(statistics, 4);
+
+        submit(1, 5, 20);
+        long manySubmissions = countStatements(statistics, 5);
+
+        assertEquals(1, singleSubmission);
+        assertEquals(singleSubmission, manySubmissions);
+
+        List<AdminPeriodSubmissionResponse> rows = adminService.getSubmittedMembers(YEAR, 1, 5);
+        assertEquals(20, rows.size());
+        assertEquals("query-test-user-5-1", rows.get(rows.size() - 1).name());
+        assertEquals("19990001", rows.get(rows.size() - 1).studentId());
+    }
+
+    @Test
+    void reportWithoutMemberFallsBackToLoginId() {
+        AssemblyReport report = newReport("query-test-missing", 4);
+        assemblyReportRepository.saveAndFlush(report);
+
+        List<AdminPeriodSubmissionResponse> rows = adminService.getSubmittedMembers(YEAR, 1, 4);
+        assertEquals(1, rows.size());
+        assertEquals("query-test-missing", rows.get(0).name());
+        assertEquals("", rows.get(0).studentId());
+    }
+
+    private long countStatements(Statistics statistics, int month) {
+        statistics.clear();
+        adminService.getSubmittedMembers(YEAR, 1, month);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void submit(int startIndex, int month, int count) {
+        for (int i = startIndex; i < startIndex + count; i++) {
+            String loginId = "query-test-" + month + "-" + i;
+
+            Member member = new Member();
+            member.setLoginId(loginId);
+            member.setPassword("password");
+            member.setName("query-test-user-" + month + "-" + i);
+            member.setStudentId(String.format("1999%04d", i));
+            member.setRole("USER");
+            member.setProfileImage("data:image/png;base64," + "A".repeat(10_000));
+            memberRepository.save(member);
+
+            assemblyReportRepository.save(newReport(loginId, month));
+        }
+        memberRepository.flush();
+        assemblyReportRepository.flush();
+    }
+
+    private AssemblyReport newReport(String loginId, int month) {
+        AssemblyReport report = new AssemblyReport();
+        report.setLoginId(loginId);
+        report.setYear(YEAR);
+        report.setSemester(1);
+        report.setMonth(month);
+        report.setType("PROGRESS");
+        report.setStatus("SUBMITTED");
+        report.setDate("1999.0" + month + ".01");
+        report.setPresentationPath("blobs/00/" + "0".repeat(64) + "/pres_" + loginId + ".pptx");
+        return report;
+    }
+}
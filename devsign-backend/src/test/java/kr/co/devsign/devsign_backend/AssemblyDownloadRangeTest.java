@@ -0,0 +1,125 @@
+package kr.co.devsign.devsign_backend;
+
+import kr.co.devsign.devsign_backend.controller.AssemblyController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// 제출 파일 다운로드의 Range / 조건부 요청 처리 확인 (206 단일·다중 범위, 304, 416)
+@SpringBootTest
+class AssemblyDownloadRangeTest {
+
+    private static final Path UPLOAD_DIR;
+
+    static {
+        try {
+            UPLOAD_DIR = Files.createTempDirectory("assembly-download-test");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final String PATH = "tester/3/report.pdf";
+
+    @DynamicPropertySource
+    static void uploadDir(DynamicPropertyRegistry registry) {
+        registry.add("app.upload.base-dir", UPLOAD_DIR::toString);
+    }
+
+    @Autowired
+    private AssemblyController assemblyController;
+
+    private MockMvc mockMvc;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        content = new byte[1000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) ('a' + i % 26);
+        }
+        Path file = UPLOAD_DIR.resolve(PATH);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(assemblyController).build();
+    }
+
+    @Test
+    void fullDownloadHasExactLength() throws Exception {
+        MvcResult result = download(HttpHeaders.ACCEPT_ENCODING, "identity");
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertEquals(content.length, result.getResponse().getContentLengthLong());
+        assertArrayEquals(content, result.getResponse().getContentAsByteArray());
+    }
+
+    @Test
+    void singleRangeReturnsPartialContent() throws Exception {
+        MvcResult result = download(HttpHeaders.RANGE, "bytes=100-199");
+
+        assertEquals(206, result.getResponse().getStatus());
+        assertEquals("bytes 100-199/1000", result.getResponse().getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(100, result.getResponse().getContentLengthLong());
+        assertArrayEquals(Arrays.copyOfRange(content, 100, 200), result.getResponse().getContentAsByteArray());
+    }
+
+    @Test
+    void multipleRangesReturnByteranges() throws Exception {
+        MvcResult result = download(HttpHeaders.RANGE, "bytes=0-9,500-509");
+
+        assertEquals(206, result.getResponse().getStatus());
+        assertTrue(result.getResponse().getContentType().startsWith("multipart/byteranges"));
+        byte[] body = result.getResponse().getContentAsByteArray();
+        // 파일 전체 길이를 Content-Length로 보내면 본문과 어긋나 클라이언트가 응답을 잘못 읽습니다.
+        long declared = result.getResponse().getContentLengthLong();
+        assertTrue(declared <= 0 || declared == body.length);
+        String text = new String(body, StandardCharsets.ISO_8859_1);
+        assertTrue(text.contains("Content-Range: bytes 0-9/1000"));
+        assertTrue(text.contains("Content-Range: bytes 500-509/1000"));
+        assertTrue(text.contains(new String(content, 0, 10, StandardCharsets.ISO_8859_1)));
+    }
+
+    @Test
+    void matchingETagReturnsNotModified() throws Exception {
+        String eTag = download(HttpHeaders.ACCEPT_ENCODING, "identity").getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+
+        MvcResult result = download(HttpHeaders.IF_NONE_MATCH, eTag);
+
+        assertEquals(304, result.getResponse().getStatus());
+        assertEquals(0, result.getResponse().getContentAsByteArray().length);
+    }
+
+    @Test
+    void unsatisfiableRangeReturns416() throws Exception {
+        MvcResult result = download(HttpHeaders.RANGE, "bytes=5000-6000");
+
+        assertEquals(416, result.getResponse().getStatus());
+        assertEquals("bytes */1000", result.getResponse().getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    private MvcResult download(String header, String value) throws Exception {
+        return mockMvc.perform(get("/api/assembly/download").param("path", PATH).header(header, value)).andReturn();
+    }
+}
@@ -0,0 +1,136 @@
+package kr.co.devsign.devsign_backend;
+
+import kr.co.devsign.devsign_backend.StubDiscordBotServer.StubResponse;
+import kr.co.devsign.devsign_backend.dto.admin.DiscordBotCallMetrics;
+import kr.co.devsign.devsign_backend.dto.admin.DiscordBotMetricsResponse;
+import kr.co.devsign.devsign_backend.service.DiscordBotClient;
+import kr.co.devsign.devsign_backend.service.DiscordBotClient.DiscordBotException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 로컬 대역 봇 서버를 상대로 타임아웃, 재시도, 회로 차단, 동시 호출 제한을 확인합니다.
+class DiscordBotClientTest {
+
+    private StubDiscordBotServer bot;
+    private DiscordBotClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        bot = new StubDiscordBotServer();
+        client = new DiscordBotClient();
+        ReflectionTestUtils.setField(client, "baseUrl", bot.baseUrl());
+        ReflectionTestUtils.setField(client, "connectTimeoutMs", 500L);
+        ReflectionTestUtils.setField(client, "avatarTimeoutMs", 300L);
+        ReflectionTestUtils.setField(client, "checkMemberTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(client, "sendCodeTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(client, "syncTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(client, "maxConcurrentCalls", 2);
+        ReflectionTestUtils.setField(client, "maxAttempts", 3);
+        ReflectionTestUtils.setField(client, "retryBaseDelayMs", 10L);
+        ReflectionTestUtils.setField(client, "retryMaxDelayMs", 50L);
+        ReflectionTestUtils.setField(client, "breakerFailureThreshold", 3);
+        ReflectionTestUtils.setField(client, "breakerOpenMs", 500L);
+        ReflectionTestUtils.invokeMethod(client, "init");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(client, "close");
+        bot.close();
+    }
+
+    @Test
+    void parsesResponsesAndEncodesDiscordTag() {
+        bot.respond("/get-avatar/", StubResponse.ok("{\"status\":\"success\",\"avatarUrl\":\"https://cdn/a.png\"}"));
+
+        Map<String, Object> response = client.getAvatar("user#0001");
+
+        assertEquals("https://cdn/a.png", response.get("avatarUrl"));
+        assertEquals("/get-avatar/user%230001", bot.lastPath("/get-avatar/"));
+    }
+
+    @Test
+    void sendCodePostsJsonAndIsNotRetried() {
+        bot.respond("/send-code", new StubResponse(503, "{}", 0));
+
+        assertThrows(DiscordBotException.class, () -> client.sendCode("user#0001", "123456"));
+
+        assertEquals(1, bot.requestCount("/send-code"));
+        assertTrue(bot.lastBody("/send-code").contains("\"code\":\"123456\""));
+    }
+
+    @Test
+    void idempotentCallsRetryServerErrors() {
+        bot.respond("/check-member/", new StubResponse(500, "{}", 0));
+
+        assertThrows(DiscordBotException.class, () -> client.checkMember("user#0001"));
+
+        assertEquals(3, bot.requestCount("/check-member/"));
+        assertEquals(2, metrics(client.getMetrics(), "CHECK_MEMBER").retries());
+    }
+
+    @Test
+    void timeoutsOpenTheCircuitAndItRecovers() throws Exception {
+        bot.respond("/get-avatar/", new StubResponse(200, "{\"status\":\"success\"}", 2000));
+
+        long startedAt = System.nanoTime();
+        assertThrows(DiscordBotException.class, () -> client.getAvatar("slow#0001"));
+        // 3번 시도 모두 300ms 타임아웃 + 짧은 백오프
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 1500);
+        assertEquals("OPEN", client.getMetrics().circuitState());
+
+        // 열려 있는 동안은 봇을 호출하지 않고 바로 실패
+        int requests = bot.requestCount("/get-avatar/");
+        assertThrows(DiscordBotException.class, () -> client.checkMember("user#0001"));
+        assertEquals(0, bot.requestCount("/check-member/"));
+        assertEquals(requests, bot.requestCount("/get-avatar/"));
+
+        // 열린 시간이 지나면 시험 호출이 성공해 회로가 닫힘
+        Thread.sleep(600);
+        bot.respond("/get-avatar/", StubResponse.ok("{\"status\":\"success\"}"));
+        assertEquals("success", client.getAvatar("slow#0001").get("status"));
+        assertEquals("CLOSED", client.getMetrics().circuitState());
+    }
+
+    @Test
+    void bulkheadRejectsCallsOverTheLimit() throws Exception {
+        bot.respond("/check-member/", new StubResponse(200, "{\"exists\":true}", 500));
+
+        CountDownLatch started = new CountDownLatch(2);
+        CompletableFuture<?>[] running = new CompletableFuture<?>[2];
+        for (int i = 0; i < running.length; i++) {
+            running[i] = CompletableFuture.runAsync(() -> {
+                started.countDown();
+                client.checkMember("user#0001");
+            });
+        }
+        started.await();
+        Thread.sleep(100);
+
+        assertThrows(DiscordBotException.class, () -> client.checkMember("user#0002"));
+        CompletableFuture.allOf(running).get(5, TimeUnit.SECONDS);
+
+        DiscordBotCallMetrics metrics = metrics(client.getMetrics(), "CHECK_MEMBER");
+        assertEquals(1, metrics.rejected());
+        assertEquals(2, bot.requestCount("/check-member/"));
+        assertTrue(metrics.p50Ms() >= 500);
+    }
+
+    private DiscordBotCallMetrics metrics(DiscordBotMetricsResponse response, String operation) {
+        return response.calls().stream()
+                .filter(call -> call.operation().equals(operation))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,129 @@
+package kr.co.devsign.devsign_backend;
+
+import io.jsonwebtoken.Claims;
+import kr.co.devsign.devsign_backend.util.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 검증된 Claims 캐시: 서명 구간 키로 조회하되 원본 토큰이 같을 때만 재사용하는지 확인합니다.
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-generation-minimum-256-bits-required";
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = newJwtUtil(100);
+    }
+
+    @Test
+    void cachesVerifiedClaimsPerToken() {
+        String token = jwtUtil.generateToken("user1", "USER", 3);
+
+        Claims first = jwtUtil.parseClaims(token);
+        Claims second = jwtUtil.parseClaims(token);
+
+        assertEquals("user1", first.getSubject());
+        assertEquals(3, first.get(JwtUtil.TOKEN_VERSION_CLAIM, Integer.class));
+        assertSame(first, second);
+    }
+
+    @Test
+    void rejectsTokenThatReusesACachedSignature() {
+        String token = jwtUtil.generateToken("user1", "USER", 0);
+        jwtUtil.parseClaims(token);
+
+        // 서명은 그대로 두고 본문만 바꾼 토큰
+        String[] parts = token.split("\\.");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"sub\":\"admin\",\"role\":\"ADMIN\",\"exp\":4102444800}".getBytes());
+        String forged = parts[0] + "." + forgedPayload + "." + parts[2];
+
+        assertNull(jwtUtil.parseClaims(forged));
+        assertEquals("user1", jwtUtil.parseClaims(token).getSubject());
+    }
+
+    @Test
+    void staysWithinMaxSize() {
+        JwtUtil small = newJwtUtil(10);
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tokens.add(small.generateToken("user" + i, "USER", 0));
+        }
+
+        for (String token : tokens) {
+            assertNotNull(small.parseClaims(token));
+        }
+
+        Object cache = ReflectionTestUtils.getField(small, "claimsCache");
+        assertTrue(((Map<?, ?>) cache).size() <= 10);
+    }
+
+    // 캐시 적중/미적중 처리량 비교 (RUN_BENCHMARKS=true 일 때만 실행)
+    @Test
+    @EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+    void benchmarkCachedParse() throws Exception {
+        JwtUtil uncached = newJwtUtil(0);
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            tokens.add(jwtUtil.generateToken("user" + i, "USER", 0));
+        }
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        for (int round = 0; round < 3; round++) {
+            long parsed = throughput(threads, token -> uncached.parseClaims(token), tokens);
+            long cached = throughput(threads, token -> jwtUtil.parseClaims(token), tokens);
+            System.out.printf("threads=%d full parse=%d ops/s, cached=%d ops/s%n", threads, parsed, cached);
+        }
+    }
+
+    private long throughput(int threads, Function<String, Claims> parse, List<String> tokens) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        LongAdder operations = new LongAdder();
+        long endAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        List<Future<?>> running = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            running.add(pool.submit(() -> {
+                while (System.nanoTime() < endAt) {
+                    parse.apply(tokens.get(ThreadLocalRandom.current().nextInt(tokens.size())));
+                    operations.increment();
+                }
+            }));
+        }
+        for (Future<?> future : running) {
+            future.get();
+        }
+        pool.shutdown();
+        return operations.sum() / 2;
+    }
+
+    private JwtUtil newJwtUtil(int cacheSize) {
+        JwtUtil util = new JwtUtil();
+        ReflectionTestUtils.setField(util, "secret", SECRET);
+        ReflectionTestUtils.setField(util, "expiration", 3_600_000L);
+        ReflectionTestUtils.setField(util, "claimsCacheMaxSize", cacheSize);
+        ReflectionTestUtils.invokeMethod(util, "init");
+        return util;
+    }
+}
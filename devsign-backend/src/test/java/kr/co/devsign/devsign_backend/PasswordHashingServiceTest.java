@@ -0,0 +1,129 @@
+package kr.co.devsign.devsign_backend;
+
+import kr.co.devsign.devsign_backend.service.PasswordHashingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 전용 실행기의 대기열 제한과 로그인 시도 제한이 429로 거절되는지 확인합니다.
+class PasswordHashingServiceTest {
+
+    private PasswordHashingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PasswordHashingService(new BCryptPasswordEncoder(4), null);
+        ReflectionTestUtils.setField(service, "threads", 1);
+        ReflectionTestUtils.setField(service, "queueCapacity", 1);
+        ReflectionTestUtils.setField(service, "timeoutMs", 10_000L);
+        ReflectionTestUtils.setField(service, "maxAttemptsPerIp", 5);
+        ReflectionTestUtils.setField(service, "maxFailuresPerLoginId", 2);
+        ReflectionTestUtils.invokeMethod(service, "start");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(service, "stop");
+    }
+
+    @Test
+    void matchesOnTheDedicatedExecutor() {
+        String encoded = service.encode("secret");
+
+        assertTrue(service.matches("secret", encoded));
+        assertFalse(service.matches("wrong", encoded));
+        assertFalse(service.matches("secret", null));
+    }
+
+    @Test
+    void limitsFailuresPerLoginId() {
+        service.checkRateLimit("10.0.0.1", "user1");
+        service.recordFailure("user1");
+        service.checkRateLimit("10.0.0.2", "user1");
+        service.recordFailure("user1");
+
+        ResponseStatusException perLoginId =
+                assertThrows(ResponseStatusException.class, () -> service.checkRateLimit("10.0.0.3", "user1"));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, perLoginId.getStatusCode());
+    }
+
+    @Test
+    void successfulAttemptsDoNotLockTheAccount() {
+        // 성공한 시도는 아이디 한도에 포함되지 않고, 성공하면 실패 횟수가 초기화됩니다.
+        service.recordFailure("user1");
+        for (int i = 0; i < 4; i++) {
+            service.checkRateLimit("10.0.0." + i, "user1");
+            service.recordSuccess("user1");
+        }
+        service.recordFailure("user1");
+        service.checkRateLimit("10.0.0.9", "user1");
+    }
+
+    @Test
+    void membersBehindOneAddressAreNotThrottledTogether() {
+        ReflectionTestUtils.setField(service, "maxAttemptsPerIp", 300);
+
+        // 동아리 세션 시작: 같은 와이파이(같은 IP)에서 60명이 로그인, 몇 명은 한 번 틀린 뒤 다시 시도
+        for (int i = 0; i < 60; i++) {
+            String loginId = "member" + i;
+            if (i % 5 == 0) {
+                service.checkRateLimit("203.0.113.7", loginId);
+                service.recordFailure(loginId);
+            }
+            service.checkRateLimit("203.0.113.7", loginId);
+            service.recordSuccess(loginId);
+        }
+
+        // 한 회원의 연속 실패가 같은 IP의 다른 회원을 막지 않음
+        service.recordFailure("member0");
+        service.recordFailure("member0");
+        assertThrows(ResponseStatusException.class, () -> service.checkRateLimit("203.0.113.7", "member0"));
+        service.checkRateLimit("203.0.113.7", "member1");
+    }
+
+    @Test
+    void limitsAllAttemptsPerIp() {
+        // IP는 성공/실패와 무관하게 시도 수로 제한 (5)
+        for (int i = 0; i < 5; i++) {
+            service.checkRateLimit("10.0.0.1", "user" + i);
+        }
+        ResponseStatusException perIp =
+                assertThrows(ResponseStatusException.class, () -> service.checkRateLimit("10.0.0.1", "user9"));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, perIp.getStatusCode());
+        service.checkRateLimit("10.0.0.2", "user9");
+    }
+
+    @Test
+    void rejectsWhenTheQueueIsFull() throws Exception {
+        String slowHash = new BCryptPasswordEncoder(12).encode("secret");
+        AtomicInteger rejected = new AtomicInteger();
+
+        CompletableFuture<?>[] running = new CompletableFuture<?>[4];
+        for (int i = 0; i < running.length; i++) {
+            running[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    service.matches("secret", slowHash);
+                } catch (ResponseStatusException e) {
+                    rejected.incrementAndGet();
+                }
+            });
+        }
+        CompletableFuture.allOf(running).get(30, TimeUnit.SECONDS);
+
+        // 실행 1 + 대기 1 을 넘는 요청은 기다리지 않고 거절
+        assertTrue(rejected.get() >= 2);
+    }
+}
@@ -0,0 +1,163 @@
+package kr.co.devsign.devsign_backend;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import kr.co.devsign.devsign_backend.dto.board.CommentResponse;
+import kr.co.devsign.devsign_backend.dto.board.PostResponse;
+import kr.co.devsign.devsign_backend.entity.Comment;
+import kr.co.devsign.devsign_backend.entity.CommentLike;
+import kr.co.devsign.devsign_backend.entity.Member;
+import kr.co.devsign.devsign_backend.entity.Post;
+import kr.co.devsign.devsign_backend.repository.CommentLikeRepository;
+import kr.co.devsign.devsign_backend.repository.CommentRepository;
+import kr.co.devsign.devsign_backend.repository.MemberRepository;
+import kr.co.devsign.devsign_backend.repository.PostRepository;
+import kr.co.devsign.devsign_backend.service.BoardService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 게시글 상세 조회의 쿼리 수가 댓글/대댓글 수와 무관하게 일정한지 확인 (댓글 트리 N+1 회귀 방지)
+// 댓글 수별 쿼리 수와 지연 시간(중앙값/p95)을 함께 출력합니다. 지연 시간은 환경마다 달라 검증하지 않고 기록만 합니다.
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class PostDetailQueryCountTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private static final int TIMED_RUNS = 20;
+
+    private record Measurement(int comments, long statements, double medianMs, double p95Ms) {
+    }
+
+    @Test
+    void queryCountDoesNotGrowWithComments() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Member reader = newMember("query-test-reader");
+
+        Measurement tenComments = measure(statistics, 10, reader);
+        Measurement hundredComments = measure(statistics, 100, reader);
+        Measurement thousandComments = measure(statistics, 1000, reader);
+
+        for (Measurement measurement : List.of(tenComments, hundredComments, thousandComments)) {
+            System.out.printf("post detail: comments=%d statements=%d median=%.2fms p95=%.2fms%n",
+                    measurement.comments(), measurement.statements(), measurement.medianMs(), measurement.p95Ms());
+        }
+        assertEquals(tenComments.statements(), hundredComments.statements());
+        assertEquals(tenComments.statements(), thousandComments.statements());
+    }
+
+    @Test
+    void repliesAndLikesAreResolvedInMemory() {
+        Member reader = newMember("query-test-reader");
+        Long postId = newPost(reader, 10);
+        entityManager.clear();
+
+        PostResponse response = boardService.getPostDetail(postId, reader.getLoginId());
+
+        assertTrue(response.commentsList().stream().anyMatch(comment -> !comment.replies().isEmpty()));
+        assertTrue(response.commentsList().stream().anyMatch(CommentResponse::likedByMe));
+    }
+
+    // 첫 조회(조회수 기록, 프로필 캐시 적재)를 제외한 두 번째 조회의 쿼리 수와, 이후 반복 조회의 지연 시간
+    private Measurement measure(Statistics statistics, int commentCount, Member reader) {
+        Long postId = newPost(reader, commentCount);
+        boardService.getPostDetail(postId, reader.getLoginId());
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics.clear();
+        boardService.getPostDetail(postId, reader.getLoginId());
+        long statements = statistics.getPrepareStatementCount();
+
+        long[] nanos = new long[TIMED_RUNS];
+        for (int i = 0; i < TIMED_RUNS; i++) {
+            // 영속성 컨텍스트를 비워 매번 DB에서 다시 읽도록
+            entityManager.clear();
+            long started = System.nanoTime();
+            boardService.getPostDetail(postId, reader.getLoginId());
+            nanos[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(nanos);
+        return new Measurement(
+                commentCount,
+                statements,
+                nanos[TIMED_RUNS / 2] / 1_000_000.0,
+                nanos[(int) Math.ceil(TIMED_RUNS * 0.95) - 1] / 1_000_000.0
+        );
+    }
+
+    // 댓글 절반은 앞 댓글의 대댓글, 3개 중 1개는 reader가 좋아요
+    private Long newPost(Member reader, int commentCount) {
+        Post post = new Post();
+        post.setTitle("query-test-post");
+        post.setContent("content");
+        post.setLoginId(reader.getLoginId());
+        postRepository.save(post);
+
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < commentCount; i++) {
+            Comment comment = new Comment();
+            comment.setPost(post);
+            comment.setContent("comment " + i);
+            comment.setLoginId(reader.getLoginId());
+            if (i % 2 == 1) {
+                comment.setParent(comments.get(i - 1));
+                comment.setReply(true);
+            }
+            comments.add(comment);
+        }
+        commentRepository.saveAll(comments);
+
+        List<CommentLike> likes = new ArrayList<>();
+        for (int i = 0; i < commentCount; i += 3) {
+            CommentLike like = new CommentLike();
+            like.setMember(reader);
+            like.setComment(comments.get(i));
+            likes.add(like);
+        }
+        commentLikeRepository.saveAll(likes);
+
+        entityManager.flush();
+        return post.getId();
+    }
+
+    private Member newMember(String loginId) {
+        Member member = new Member();
+        member.setLoginId(loginId);
+        member.setPassword("password");
+        member.setName("query-test-user");
+        member.setStudentId("19990001");
+        member.setRole("USER");
+        return memberRepository.saveAndFlush(member);
+    }
+}
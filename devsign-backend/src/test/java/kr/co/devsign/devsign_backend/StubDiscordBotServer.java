@@ -0,0 +1,92 @@
+package kr.co.devsign.devsign_backend;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 통합 테스트용 디스코드 봇 대역 (discord-bot/discordBot.py와 같은 경로/응답 형식)
+// 경로 접두사별로 상태 코드, JSON 본문, 지연 시간을 바꿔 가며 응답합니다.
+public class StubDiscordBotServer implements AutoCloseable {
+
+    public record StubResponse(int status, String body, long delayMs) {
+        public static StubResponse ok(String body) {
+            return new StubResponse(200, body, 0);
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, StubResponse> responses = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private final Map<String, String> lastBodies = new ConcurrentHashMap<>();
+
+    public StubDiscordBotServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(executor);
+        for (String prefix : new String[]{"/get-avatar/", "/check-member/", "/send-code", "/sync-all-members"}) {
+            server.createContext(prefix, exchange -> handle(prefix, exchange));
+        }
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void respond(String prefix, StubResponse response) {
+        responses.put(prefix, response);
+    }
+
+    public int requestCount(String prefix) {
+        AtomicInteger count = requestCounts.get(prefix);
+        return count != null ? count.get() : 0;
+    }
+
+    public String lastBody(String prefix) {
+        return lastBodies.get(prefix);
+    }
+
+    public String lastPath(String prefix) {
+        return lastBodies.get(prefix + "#path");
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(String prefix, HttpExchange exchange) throws IOException {
+        requestCounts.computeIfAbsent(prefix, key -> new AtomicInteger()).incrementAndGet();
+        lastBodies.put(prefix, new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        lastBodies.put(prefix + "#path", exchange.getRequestURI().getRawPath());
+
+        StubResponse response = responses.getOrDefault(prefix, StubResponse.ok("{\"status\":\"success\"}"));
+        try {
+            if (response.delayMs() > 0) {
+                Thread.sleep(response.delayMs());
+            }
+            byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(response.status(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException ignored) {
+            // 클라이언트가 타임아웃으로 먼저 끊은 경우
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -4,10 +4,19 @@ from fastapi import FastAPI, Request
 from fastapi.middleware.cors import CORSMiddleware
 import uvicorn
 import asyncio
+import aiohttp
+import os
+import time
+import uuid
 
 # --- [설정 부분] ---
 # 실제 환경에 맞게 토큰과 ID를 확인해주세요.
  
+# 회원 변경 이벤트 전송 (DISCORD_EVENTS_SECRET이 없으면 전송 루프를 시작하지 않음)
+EVENTS_SECRET = os.getenv("DISCORD_EVENTS_SECRET", "")
+BACKEND_URL = os.getenv("BACKEND_URL", "http://localhost:8080").rstrip("/")
+EVENT_FLUSH_SECONDS = float(os.getenv("DISCORD_EVENT_FLUSH_SECONDS", "5"))
+EVENT_BATCH_SIZE = int(os.getenv("DISCORD_EVENT_BATCH_SIZE", "500"))
 # ------------------
 
 # 1. 디스코드 봇 설정
@@ -74,6 +83,62 @@ def get_member_status_info(member):
         "avatarUrl": avatar_url  # 프로필 이미지 URL
     }
 
+# [회원 변경 이벤트] 별명/역할/아바타가 바뀌면 모아 두었다가 백엔드로 묶어서 보냅니다.
+# 같은 회원의 연속 변경은 마지막 상태 하나로 합쳐지며, 전송에 실패하면 다음 주기에 같은 eventId로 다시 보냅니다.
+pending_events = {}
+
+def queue_member_event(member):
+    if member.bot or member.guild.id != GUILD_ID:
+        return
+    info = get_member_status_info(member)
+    pending_events[info["discordTag"]] = {
+        "eventId": str(uuid.uuid4()),
+        "occurredAt": int(time.time() * 1000),
+        **info
+    }
+
+@bot.event
+async def on_member_update(before, after):
+    queue_member_event(after)
+
+@bot.event
+async def on_user_update(before, after):
+    # 전역 아바타/이름 변경은 user 단위로 오므로 길드 회원으로 바꿔서 처리
+    guild = bot.get_guild(GUILD_ID)
+    member = guild.get_member(after.id) if guild else None
+    if member:
+        queue_member_event(member)
+
+@bot.event
+async def on_member_join(member):
+    queue_member_event(member)
+
+async def flush_member_events():
+    if not EVENTS_SECRET:
+        return
+    async with aiohttp.ClientSession(timeout=aiohttp.ClientTimeout(total=10)) as session:
+        while True:
+            await asyncio.sleep(EVENT_FLUSH_SECONDS)
+            if not pending_events:
+                continue
+            batch = list(pending_events.values())[:EVENT_BATCH_SIZE]
+            try:
+                async with session.post(
+                    f"{BACKEND_URL}/api/discord/events",
+                    json={"events": batch},
+                    headers={"X-Bot-Secret": EVENTS_SECRET},
+                ) as res:
+                    if res.status != 200:
+                        print(f"⚠️ 회원 변경 이벤트 전송 실패: HTTP {res.status}")
+                        continue
+            except Exception as e:
+                print(f"⚠️ 회원 변경 이벤트 전송 실패: {e}")
+                continue
+            # 전송 중에 새 변경이 들어온 회원은 남겨 둠
+            for event in batch:
+                if pending_events.get(event["discordTag"]) is event:
+                    del pending_events[event["discordTag"]]
+
 @bot.event
 async def on_ready():
     print(f'✅ DEVSIGN 디스코드 봇 {bot.user}가 구동되었습니다!')
@@ -164,7 +229,8 @@ async def main():
     
     await asyncio.gather(
         server.serve(),
-        bot.start(TOKEN)
+        bot.start(TOKEN),
+        flush_member_events()
     )
 
 if __name__ == "__main__":
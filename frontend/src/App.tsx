@@ -120,7 +120,9 @@ function AppContent() {
     if (!isLoggedIn) { alert("로그인이 필요한 서비스입니다."); return; }
     try {
       const response = await api.post(`/posts/${postId}/like`);
-      setPosts(prev => prev.map(p => p.id === postId ? response.data : p));
+      // 서버는 { liked, likeCount } 변경분만 반환
+      const { liked, likeCount } = response.data;
+      setPosts(prev => prev.map(p => p.id === postId ? { ...p, likedByMe: liked, likes: likeCount } : p));
     } catch (e) { console.error("좋아요 처리 실패", e); }
   };
 
@@ -144,7 +146,12 @@ function AppContent() {
     if (!isLoggedIn) { alert("로그인이 필요합니다."); return; }
     try {
       const response = await api.post(`/posts/${postId}/comments/${commentId}/like`);
-      setPosts(prev => prev.map(p => p.id === postId ? response.data : p));
+      const { liked, likeCount } = response.data;
+      // 댓글 목록과 대댓글(replies) 양쪽에 같은 댓글이 있으므로 재귀적으로 반영
+      const applyLike = (comments: any[] = []): any[] => comments.map(c => c.id === commentId
+        ? { ...c, likedByMe: liked, likes: likeCount }
+        : { ...c, replies: applyLike(c.replies) });
+      setPosts(prev => prev.map(p => p.id === postId ? { ...p, commentsList: applyLike(p.commentsList) } : p));
     } catch (e) { console.error("댓글 좋아요 실패", e); }
   };
 
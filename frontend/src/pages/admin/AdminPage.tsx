@@ -287,7 +287,10 @@ export const AdminPage = () => {
     try {
       const res = await api.get("/admin/sync-discord");
       if (res.data.status === "success") {
-        alert("디스코드 서버 동기화 완료! ✅");
+        const report = res.data.report;
+        alert(report
+          ? `디스코드 서버 동기화 완료! ✅\n변경 ${report.changed}명 · 변경 없음 ${report.unchanged}명 · 미가입 ${report.unmatched}명`
+          : "디스코드 서버 동기화 완료! ✅");
         fetchAdminData();
       } else {
         alert(`동기화 실패: ${res.data.message || "알 수 없는 오류"}`);
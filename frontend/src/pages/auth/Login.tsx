@@ -47,9 +47,14 @@ export const Login = ({ onNavigate, onLoginSuccess }: { onNavigate: (page: strin
       else {
         alert("아이디 또는 비밀번호가 틀렸습니다.");
       }
-    } catch (error) {
+    } catch (error: any) {
       console.error("로그인 에러:", error);
-      alert("로그인 서버와 통신할 수 없습니다.");
+      // ✨ 로그인 시도가 너무 많거나 서버가 붐빌 때 (429)
+      if (error?.response?.status === 429) {
+        alert("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+      } else {
+        alert("로그인 서버와 통신할 수 없습니다.");
+      }
     } finally {
       setIsLoading(false);
     }
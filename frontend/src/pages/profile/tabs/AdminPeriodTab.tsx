@@ -30,6 +30,9 @@ interface SubmittedMember {
   pdfPath?: string;
   otherPath?: string;
   memo?: string;
+  presentationPages?: number | null;
+  pdfPages?: number | null;
+  processed?: boolean;
 }
 
 export const AdminPeriodTab = () => {
@@ -449,7 +452,7 @@ export const AdminPeriodTab = () => {
                               type="button"
                               onClick={() => handleDownload(member.presentationPath)}
                               className="p-2.5 bg-indigo-50 text-indigo-600 rounded-xl hover:bg-indigo-100 transition-colors"
-                              title="발표자료 다운로드"
+                              title={`발표자료 다운로드${member.presentationPages ? ` (${member.presentationPages}슬라이드)` : ""}`}
                             >
                               <FileArchive size={16} />
                             </button>
@@ -459,7 +462,7 @@ export const AdminPeriodTab = () => {
                               type="button"
                               onClick={() => handleDownload(member.pdfPath)}
                               className="p-2.5 bg-pink-50 text-pink-600 rounded-xl hover:bg-pink-100 transition-colors"
-                              title="PDF 다운로드"
+                              title={`PDF 다운로드${member.pdfPages ? ` (${member.pdfPages}페이지)` : ""}`}
                             >
                               <FileText size={16} />
                             </button>